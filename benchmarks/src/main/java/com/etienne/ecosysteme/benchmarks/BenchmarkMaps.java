@@ -0,0 +1,146 @@
+package com.etienne.ecosysteme.benchmarks;
+
+import com.etienne.ecosysteme.entities.Bear;
+import com.etienne.ecosysteme.entities.Bunny;
+import com.etienne.ecosysteme.entities.Deer;
+import com.etienne.ecosysteme.entities.EtreVivant;
+import com.etienne.ecosysteme.entities.Humain;
+import com.etienne.ecosysteme.entities.MapVivant;
+import com.etienne.ecosysteme.entities.Wolf;
+import com.etienne.ecosysteme.entities.Zombie;
+import com.etienne.ecosysteme.environment.Case;
+import com.etienne.ecosysteme.environment.CaseFactory;
+import com.etienne.ecosysteme.environment.MapEnvironnement;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Cartes et populations utilisées par les bancs d'essai.
+ *
+ * <p>Les cartes livrées ({@code nnew_map1_test}, {@code random_map}) sont lues depuis le classpath.
+ * Les cartes synthétiques ({@code synthetique-100}, {@code synthetique-800}, {@code synthetique-4000})
+ * sont générées : herbe, avec quelques arbres, buissons et points d'eau.
+ * Dans tous les cas, la population est générée avec une graine fixe, ce qui rend les mesures reproductibles.</p>
+ */
+public final class BenchmarkMaps {
+
+    // Graine des cartes et des populations générées
+    public static final long GRAINE = 42;
+
+    // Proportion des cases libres occupées par un être vivant
+    public static final double DENSITE_POPULATION = 0.02;
+
+    // Préfixe des cartes synthétiques (suivi de la taille du côté)
+    private static final String PREFIXE_SYNTHETIQUE = "synthetique-";
+
+    private BenchmarkMaps() {
+    }
+
+    /**
+     * Construit la carte environnementale correspondant à un nom.
+     *
+     * @param nom Nom de la carte livrée, ou {@code synthetique-<taille>}.
+     * @return La carte environnementale.
+     */
+    public static MapEnvironnement carte(String nom) {
+        if (nom.startsWith(PREFIXE_SYNTHETIQUE)) {
+            return carteSynthetique(Integer.parseInt(nom.substring(PREFIXE_SYNTHETIQUE.length())));
+        }
+        return new MapEnvironnement(fichierCarte(nom).toString());
+    }
+
+    /**
+     * Copie une carte livrée dans un fichier temporaire (les ressources d'un jar ne sont pas des fichiers).
+     *
+     * @param nom Nom de la carte livrée (sans extension).
+     * @return Le chemin du fichier temporaire.
+     */
+    public static Path fichierCarte(String nom) {
+        String ressource = "/ressources/map/map_case/" + nom + ".txt";
+        try (InputStream in = Objects.requireNonNull(BenchmarkMaps.class.getResourceAsStream(ressource),
+                "Carte introuvable : " + ressource)) {
+            Path fichier = Files.createTempFile(nom, ".txt");
+            fichier.toFile().deleteOnExit();
+            Files.copy(in, fichier, StandardCopyOption.REPLACE_EXISTING);
+            return fichier;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Génère une carte carrée synthétique.
+     *
+     * @param taille Taille du côté de la carte.
+     * @return La carte environnementale.
+     */
+    public static MapEnvironnement carteSynthetique(int taille) {
+        SplittableRandom random = new SplittableRandom(GRAINE);
+        Case[][] grid = new Case[taille][taille];
+        for (int row = 0; row < taille; row++) {
+            for (int col = 0; col < taille; col++) {
+                double tirage = random.nextDouble();
+                String code;
+                if (tirage < 0.06) {
+                    code = "00_A"; // Arbre (obstacle)
+                } else if (tirage < 0.08) {
+                    code = "02_"; // Eau (obstacle)
+                } else if (tirage < 0.09) {
+                    code = "00_C"; // Buisson
+                } else {
+                    code = "00_";
+                }
+                grid[row][col] = CaseFactory.createCase(code);
+            }
+        }
+        return new MapEnvironnement(grid);
+    }
+
+    /**
+     * Génère une population sur une carte : humains, zombies et animaux sur les cases libres.
+     *
+     * @param map Carte environnementale.
+     * @return La carte des êtres vivants.
+     */
+    public static MapVivant population(MapEnvironnement map) {
+        SplittableRandom random = new SplittableRandom(GRAINE);
+        MapVivant mapVivant = new MapVivant(map.getRows(), map.getCols());
+        for (int row = 0; row < map.getRows(); row++) {
+            for (int col = 0; col < map.getCols(); col++) {
+                if (map.isObstacle(row, col) || random.nextDouble() >= DENSITE_POPULATION) {
+                    continue;
+                }
+                mapVivant.setEtreVivant(row, col, etreVivantAleatoire(row, col, random));
+            }
+        }
+        return mapVivant;
+    }
+
+    /**
+     * Crée un être vivant d'un type tiré au hasard.
+     *
+     * @param row    Ligne de l'être vivant.
+     * @param col    Colonne de l'être vivant.
+     * @param random Générateur aléatoire de la population.
+     * @return L'être vivant.
+     */
+    private static EtreVivant etreVivantAleatoire(int row, int col, SplittableRandom random) {
+        int tirage = random.nextInt(10);
+        SplittableRandom rngEtre = random.split();
+        return switch (tirage) {
+            case 0, 1, 2, 3 -> new Humain(row, col, rngEtre);
+            case 4 -> new Zombie(row, col, rngEtre);
+            case 5, 6 -> new Bunny(row, col, rngEtre);
+            case 7 -> new Deer(row, col, rngEtre);
+            case 8 -> new Wolf(row, col, rngEtre);
+            default -> new Bear(row, col, rngEtre);
+        };
+    }
+}
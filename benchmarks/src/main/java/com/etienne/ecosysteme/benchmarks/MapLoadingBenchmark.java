@@ -0,0 +1,60 @@
+package com.etienne.ecosysteme.benchmarks;
+
+import com.etienne.ecosysteme.environment.CarteBinaire;
+import com.etienne.ecosysteme.environment.MapEnvironnement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Temps de chargement d'une carte environnementale depuis son fichier texte
+ * (lecture, découpage des codes et création des cases) ou depuis sa conversion binaire ({@link CarteBinaire}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapLoadingBenchmark {
+
+    @Param({"nnew_map1_test", "random_map"})
+    public String carte;
+
+    // Format du fichier chargé : texte, ou binaire projeté en mémoire
+    @Param({"txt", "bin"})
+    public String format;
+
+    private String fichier;
+
+    @Setup
+    public void copierCarte() throws IOException {
+        Path texte = BenchmarkMaps.fichierCarte(carte);
+        if (format.equals("bin")) {
+            Path binaire = Files.createTempFile(carte, CarteBinaire.EXTENSION);
+            binaire.toFile().deleteOnExit();
+            CarteBinaire.convertir(texte, binaire);
+            fichier = binaire.toString();
+        } else {
+            fichier = texte.toString();
+        }
+    }
+
+    @Benchmark
+    public MapEnvironnement charger() {
+        return new MapEnvironnement(fichier);
+    }
+}
@@ -0,0 +1,78 @@
+package com.etienne.ecosysteme.benchmarks;
+
+import com.etienne.ecosysteme.core.DayNightCycleImpl;
+import com.etienne.ecosysteme.core.SimulationConfig;
+import com.etienne.ecosysteme.entities.MapVivant;
+import com.etienne.ecosysteme.environment.MapEnvironnement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Débit d'un tick complet de {@link MapVivant#update} (une opération = un tick).
+ *
+ * <p>La population est régénérée à chaque itération, pour que l'évolution de la simulation
+ * (humains transformés, zombies affamés) ne fausse pas les itérations suivantes.
+ * {@code -p threads=N} active la mise à jour parallèle par bandes.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class MapVivantUpdateBenchmark {
+
+    @Param({"nnew_map1_test", "random_map", "synthetique-100", "synthetique-800", "synthetique-4000"})
+    public String carte;
+
+    // Nombre de threads de la mise à jour parallèle (0 : séquentielle)
+    @Param({"0"})
+    public int threads;
+
+    private MapEnvironnement map;
+    private MapVivant mapVivant;
+    private DayNightCycleImpl cycle;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void chargerCarte() {
+        map = BenchmarkMaps.carte(carte);
+        cycle = new DayNightCycleImpl(SimulationConfig.TICKS_PAR_HEURE_PAR_DEFAUT);
+        if (threads > 0) {
+            pool = new ForkJoinPool(threads);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void genererPopulation() {
+        mapVivant = BenchmarkMaps.population(map);
+        mapVivant.setParallelisme(pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void arreterPool() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public int tick() {
+        mapVivant.update(map, cycle);
+        return mapVivant.getNombreEtreVivants();
+    }
+}
@@ -0,0 +1,147 @@
+package com.etienne.ecosysteme.benchmarks;
+
+import com.etienne.ecosysteme.entities.EtreVivant;
+import com.etienne.ecosysteme.entities.MapVivant;
+import com.etienne.ecosysteme.entities.ScoreDeplacement;
+import com.etienne.ecosysteme.environment.MapEnvironnement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût des primitives de perception et de déplacement appelées par chaque être vivant à chaque tick :
+ * recherche des voisins visibles, ligne de vue et choix du meilleur déplacement.
+ *
+ * <p>Les êtres vivants interrogés (et les couples de cases de la ligne de vue) sont tirés à l'avance,
+ * puis parcourus en boucle pour ne pas mesurer toujours la même case. Les lignes de vue sont demandées
+ * sans distance de détection (comme lors de la perception), pour mesurer le tracé et son cache
+ * plutôt que le raccourci des cases proches.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PerceptionBenchmark {
+
+    // Nombre d'échantillons (êtres vivants, couples de cases) parcourus en boucle
+    private static final int ECHANTILLONS = 1024;
+
+    @Param({"synthetique-800"})
+    public String carte;
+
+    // Rayon de vision utilisé pour la recherche des voisins (12 : humains et loups, 30 : zombies)
+    @Param({"12", "30"})
+    public int rayon;
+
+    private MapEnvironnement map;
+    private MapVivant mapVivant;
+    private EtreVivant[] etres;
+    private int[][] couples;
+    private int[][] couplesHorsCache;
+    private int indice;
+
+    @Setup
+    public void preparer() {
+        map = BenchmarkMaps.carte(carte);
+        mapVivant = BenchmarkMaps.population(map);
+
+        SplittableRandom random = new SplittableRandom(BenchmarkMaps.GRAINE);
+        List<EtreVivant> tous = new ArrayList<>();
+        for (int row = 0; row < mapVivant.getRows(); row++) {
+            for (int col = 0; col < mapVivant.getCols(); col++) {
+                EtreVivant vivant = mapVivant.getEtreVivant(row, col);
+                if (vivant != null) {
+                    tous.add(vivant);
+                }
+            }
+        }
+        etres = new EtreVivant[ECHANTILLONS];
+        couples = new int[ECHANTILLONS][];
+        couplesHorsCache = new int[ECHANTILLONS][];
+        int portee = MapEnvironnement.PORTEE_CACHE_LIGNE_DE_VUE;
+        for (int i = 0; i < ECHANTILLONS; i++) {
+            etres[i] = tous.get(random.nextInt(tous.size()));
+
+            // Couple de cases distantes d'au plus le rayon de vision
+            int startRow = random.nextInt(rayon, map.getRows() - rayon);
+            int startCol = random.nextInt(rayon, map.getCols() - rayon);
+            couples[i] = new int[]{startRow, startCol,
+                    startRow + random.nextInt(-rayon, rayon + 1), startCol + random.nextInt(-rayon, rayon + 1)};
+
+            // Couple de cases trop éloignées pour le cache des lignes de vue (entre une et deux fois sa portée)
+            startRow = random.nextInt(2 * portee, map.getRows() - 2 * portee);
+            startCol = random.nextInt(2 * portee, map.getCols() - 2 * portee);
+            int ecart = (random.nextBoolean() ? 1 : -1) * random.nextInt(portee + 1, 2 * portee + 1);
+            couplesHorsCache[i] = random.nextBoolean()
+                    ? new int[]{startRow, startCol, startRow + ecart, startCol + random.nextInt(-2 * portee, 2 * portee + 1)}
+                    : new int[]{startRow, startCol, startRow + random.nextInt(-2 * portee, 2 * portee + 1), startCol + ecart};
+        }
+    }
+
+    @Benchmark
+    public List<EtreVivant> getEtreVivantsDansRayon() {
+        EtreVivant etre = etres[suivant()];
+        return etre.getEtreVivantsDansRayon(mapVivant, map, rayon, -1);
+    }
+
+    @Benchmark
+    public boolean isPathClear() {
+        int[] couple = couples[suivant()];
+        return MapEnvironnement.isPathClear(map, couple[0], couple[1], couple[2], couple[3], -1);
+    }
+
+    /**
+     * Ligne de vue au-delà de la portée du cache : le tracé de Bresenham est refait à chaque appel.
+     */
+    @Benchmark
+    public boolean isPathClearHorsCache() {
+        int[] couple = couplesHorsCache[suivant()];
+        return MapEnvironnement.isPathClear(map, couple[0], couple[1], couple[2], couple[3], -1);
+    }
+
+    /**
+     * Choix du meilleur déplacement vers une cible. L'être vivant est ramené sur sa case de départ
+     * après chaque appel, pour que la population reste identique d'une opération à l'autre.
+     */
+    @Benchmark
+    public void seDeplacerSelonScore(Blackhole blackhole) {
+        EtreVivant etre = etres[suivant()];
+        int row = etre.getRow();
+        int col = etre.getCol();
+        int cibleRow = row + rayon;
+        int cibleCol = col - rayon;
+        ScoreDeplacement calculerScore = (newRow, newCol) ->
+                -Math.sqrt((double) (newRow - cibleRow) * (newRow - cibleRow) + (double) (newCol - cibleCol) * (newCol - cibleCol));
+
+        int[] direction = etre.seDeplacerSelonScore(mapVivant, map, calculerScore);
+        if (direction != null) {
+            etre.deplacerVers(row, col, mapVivant, map);
+        }
+        blackhole.consume(direction);
+    }
+
+    /**
+     * Retourne l'indice de l'échantillon suivant.
+     * @return L'indice de l'échantillon.
+     */
+    private int suivant() {
+        indice = (indice + 1) & (ECHANTILLONS - 1);
+        return indice;
+    }
+}
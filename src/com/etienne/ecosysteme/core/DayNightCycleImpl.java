@@ -2,11 +2,16 @@ package com.etienne.ecosysteme.core;
 
 // Classe qui gère les cycles jour/nuit
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.scene.paint.Color;
-import javafx.util.Duration;
 
+/**
+ * Cycle jour/nuit de la simulation, piloté par les ticks.
+ *
+ * <p>Le temps n'avance que par {@link #avancerTemps()}, appelée une fois par tick par {@link Simulation} :
+ * le cycle ne dépend ni du temps réel ni de JavaFX, et une simulation accélérée (plus de ticks par seconde)
+ * ou sans affichage fait défiler les jours à la même cadence en ticks. La couleur d'éclairage et l'heure
+ * affichée sont précalculées pour chaque minute de la journée.</p>
+ */
 public class DayNightCycleImpl implements DayNightCycleInterface {
 
     // Enumération pour les différents cycles possibles
@@ -14,38 +19,80 @@ public class DayNightCycleImpl implements DayNightCycleInterface {
         JOUR, CREPUSCULE, NUIT, AURORE
     }
 
-    // Durée totale d'un cycle (en secondes)
+    // Nombre de minutes dans une journée
+    private static final int MINUTES_PAR_JOUR = 24 * 60;
+
+    // Durée totale d'un cycle (en ticks)
     private final int totalCycleDuration;
 
-    // Compteur pour suivre l'avancement du temps dans le cycle
-    private int timeCounter;
+    // Nombre de ticks écoulés depuis minuit du premier jour
+    // (écrit par le thread de simulation, lu par le thread JavaFX)
+    private volatile long temps;
+
+    // Couleurs d'éclairage de référence
+    private static final Color COULEUR_NUIT = Color.rgb(0, 0, 50, 0.6);
+    private static final Color COULEUR_CREPUSCULE = Color.rgb(220, 130, 50, 0.2);
+    private static final Color COULEUR_SOIR = Color.rgb(72, 41, 50, 0.4);
 
-    // Objet Timeline pour gérer les mises à jour périodiques
-    private Timeline cycleTimeline;
+    // Couleur d'éclairage de chaque minute de la journée, précalculée (deux minutes de même couleur partagent l'instance)
+    private static final Color[] ECLAIRAGES = new Color[MINUTES_PAR_JOUR];
+
+    // Heure affichée ("HH:mm") de chaque minute de la journée
+    private static final String[] HEURES = new String[MINUTES_PAR_JOUR];
+
+    static {
+        for (int minute = 0; minute < MINUTES_PAR_JOUR; minute++) {
+            Color couleur = calculerEclairage((double) minute / MINUTES_PAR_JOUR);
+            ECLAIRAGES[minute] = minute > 0 && couleur.equals(ECLAIRAGES[minute - 1]) ? ECLAIRAGES[minute - 1] : couleur;
+            HEURES[minute] = String.format("%02d:%02d", minute / 60, minute % 60);
+        }
+    }
 
     /**
      * Constructeur de la classe.
-     * Initialise la durée du cycle et démarre automatiquement le cycle.
-     * @param totalCycleDuration Durée totale du cycle en secondes.
+     * Initialise la durée du cycle, avec un temps placé au milieu du cycle (midi).
+     * @param ticksParHeure Nombre de ticks par heure de jeu.
+     * @throws IllegalArgumentException Si le nombre de ticks par heure n'est pas strictement positif.
      */
-    public DayNightCycleImpl(int totalCycleDuration) {
-        this.totalCycleDuration = totalCycleDuration;
-        this.timeCounter = 0;
-        startCycle();
+    public DayNightCycleImpl(int ticksParHeure) {
+        if (ticksParHeure <= 0) {
+            throw new IllegalArgumentException("Le nombre de ticks par heure doit être strictement positif");
+        }
+        this.totalCycleDuration = 24 * ticksParHeure;
+        this.temps = totalCycleDuration / 2; // Début au milieu d'un cycle
     }
 
     /**
-     * Démarre le cycle jour/nuit en initialisant un compteur périodique.
-     * Le compteur est incrémenté toutes les secondes.
+     * Fait avancer le cycle d'un tick.
+     * Appelée uniquement par le thread qui exécute la simulation.
      */
     @Override
-    public void startCycle() {
-        this.timeCounter = (int) (0.5 * totalCycleDuration); // Début au milieu d'un cycle
-        cycleTimeline = new Timeline(
-                new KeyFrame(Duration.seconds(1), _ -> timeCounter = (timeCounter + 1) % totalCycleDuration)
-        );
-        cycleTimeline.setCycleCount(Timeline.INDEFINITE);
-        cycleTimeline.play();
+    public void avancerTemps() {
+        temps++;
+    }
+
+    /**
+     * Retourne le numéro du jour courant (0 pour le premier jour, qui commence à midi).
+     * @return Numéro du jour.
+     */
+    public long getJour() {
+        return temps / totalCycleDuration;
+    }
+
+    /**
+     * Retourne le nombre de ticks écoulés depuis minuit.
+     * @return Position dans le cycle (en ticks).
+     */
+    private int getTimeCounter() {
+        return (int) (temps % totalCycleDuration);
+    }
+
+    /**
+     * Retourne la minute de la journée (entre 0 et 1439).
+     * @return Minute de la journée.
+     */
+    private int getMinute() {
+        return (int) ((long) getTimeCounter() * MINUTES_PAR_JOUR / totalCycleDuration);
     }
 
     /**
@@ -54,7 +101,7 @@ public class DayNightCycleImpl implements DayNightCycleInterface {
      */
     @Override
     public double getNormalizedTime() {
-        return (double) timeCounter / totalCycleDuration;
+        return (double) getTimeCounter() / totalCycleDuration;
     }
 
     /**
@@ -79,17 +126,25 @@ public class DayNightCycleImpl implements DayNightCycleInterface {
 
     /**
      * Retourne la couleur d'éclairage en fonction de l'heure actuelle.
-     * Les transitions de couleur sont interpolées pour une transition fluide.
+     * La couleur est lue dans la table précalculée : aucun objet n'est créé.
      * @return Couleur d'éclairage.
      */
     @Override
     public Color getLightingColor() {
-        double normalizedTime = getNormalizedTime();
+        return ECLAIRAGES[getMinute()];
+    }
 
+    /**
+     * Calcule la couleur d'éclairage d'un instant du cycle.
+     * Les transitions de couleur sont interpolées pour une transition fluide.
+     * @param normalizedTime Temps normalisé dans le cycle (entre 0 et 1).
+     * @return Couleur d'éclairage.
+     */
+    private static Color calculerEclairage(double normalizedTime) {
         // Transition de l'aube (6h à 11h)
         if (0.25 <= normalizedTime && normalizedTime <= 0.45) {
             double progress = (normalizedTime - 0.25) / (0.45 - 0.25);
-            return interpolateColor(Color.rgb(0, 0, 50, 0.6), Color.TRANSPARENT, progress);
+            return interpolateColor(COULEUR_NUIT, Color.TRANSPARENT, progress);
         }
 
         // Plein jour (11h à 18h)
@@ -101,23 +156,23 @@ public class DayNightCycleImpl implements DayNightCycleInterface {
         if (0.75 <= normalizedTime && normalizedTime <= 0.9) {
             if (0.75 <= normalizedTime && normalizedTime <= 0.85) {
                 double progress = (normalizedTime - 0.75) / (0.85 - 0.75);
-                return interpolateColor(Color.TRANSPARENT, Color.rgb(220, 130, 50, 0.2), progress);
+                return interpolateColor(Color.TRANSPARENT, COULEUR_CREPUSCULE, progress);
             }
             if (0.85 <= normalizedTime && normalizedTime <= 0.9) {
                 double progress = (normalizedTime - 0.85) / (0.9 - 0.85);
-                return interpolateColor(Color.rgb(220, 130, 50, 0.2), Color.rgb(72, 41, 50, 0.4), progress);
+                return interpolateColor(COULEUR_CREPUSCULE, COULEUR_SOIR, progress);
             }
         }
 
         // Transition vers la nuit (minuit)
         if (0.9 <= normalizedTime && normalizedTime <= 1.0) {
             double progress = (normalizedTime - 0.9) / (1 - 0.9);
-            return interpolateColor(Color.rgb(72, 41, 50, 0.4), Color.rgb(0, 0, 50, 0.6), progress);
+            return interpolateColor(COULEUR_SOIR, COULEUR_NUIT, progress);
         }
 
         // Pleine nuit (minuit à 6h)
         if (0 <= normalizedTime && normalizedTime <= 0.25) {
-            return Color.rgb(0, 0, 50, 0.6);
+            return COULEUR_NUIT;
         }
 
         return Color.TRANSPARENT; // Couleur par défaut
@@ -130,7 +185,7 @@ public class DayNightCycleImpl implements DayNightCycleInterface {
      * @param progress Progrès (entre 0 et 1).
      * @return Couleur interpolée.
      */
-    private Color interpolateColor(Color start, Color end, double progress) {
+    private static Color interpolateColor(Color start, Color end, double progress) {
         progress = Math.max(0, Math.min(1, progress)); // Limite progress entre 0 et 1
         return new Color(
                 start.getRed() + (end.getRed() - start.getRed()) * progress,
@@ -142,15 +197,11 @@ public class DayNightCycleImpl implements DayNightCycleInterface {
 
     /**
      * Retourne l'heure actuelle sous format "HH:mm".
+     * La chaîne est lue dans la table précalculée.
      * @return Heure formatée.
      */
     @Override
     public String getFormattedTime() {
-        int totalMin = (int) (getNormalizedTime() * 24 * 60);
-        int adjustedMinutes = totalMin % (24 * 60); // Modulo pour éviter les dépassements
-        int hours = adjustedMinutes / 60;
-        int minutes = adjustedMinutes % 60;
-
-        return String.format("%02d:%02d", hours, minutes);
+        return HEURES[getMinute()];
     }
 }
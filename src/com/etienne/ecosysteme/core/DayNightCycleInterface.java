@@ -10,10 +10,10 @@ import javafx.scene.paint.Color;
 public interface DayNightCycleInterface {
 
     /**
-     * Démarre le cycle jour/nuit.
-     * Cette méthode initialise et lance le cycle, permettant à l'horloge interne de commencer à évoluer.
+     * Fait avancer le cycle d'un tick de simulation.
+     * Le cycle n'a pas d'horloge propre : il avance au rythme de la simulation, qu'elle soit accélérée ou non.
      */
-    void startCycle();
+    void avancerTemps();
 
     /**
      * Récupère le temps actuel sous forme normalisée.
@@ -1,16 +1,19 @@
 package com.etienne.ecosysteme.core;
 
 import com.etienne.ecosysteme.entities.Player;
+import com.etienne.ecosysteme.environment.Case;
+import com.etienne.ecosysteme.environment.CaseFactory;
 import com.etienne.ecosysteme.environment.MapEnvironnement;
-import com.etienne.ecosysteme.entities.MapVivant;
-import com.etienne.ecosysteme.environment.Pluie;
-import javafx.scene.layout.GridPane;
-import javafx.scene.layout.StackPane;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
-import javafx.scene.text.Text;
-import java.util.Random;
+import com.etienne.ecosysteme.environment.MapRenderer;
+import com.etienne.ecosysteme.environment.Texture;
+import com.etienne.ecosysteme.environment.TextureAtlas;
+import com.etienne.ecosysteme.environment.ZoneAffichage;
+import javafx.scene.Node;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleConsumer;
 
 public class Game {
 
@@ -21,23 +24,20 @@ public class Game {
     private static final long MOVE_DELAY_MS = 80;
     private long lastMoveTime = 0; // Temps du dernier déplacement
 
-    // Carte de l'environnement et des entités
-    private final MapEnvironnement mapEnvironnement;
-    private final MapVivant mapVivant;
+    // Moteur de simulation (cartes, cycle jour/nuit, pluie)
+    private final Simulation simulation;
+
+    // Boucle de simulation, sur son propre thread
+    private final SimulationLoop simulationLoop;
 
     // Joueur contrôlé par l'utilisateur
     private final Player player;
 
-    // Gestion des cycles jour/nuit
-    private final DayNightCycleImpl dayNightCycleImpl;
-
-    // Gestion des précipitations (pluie)
-    private final Pluie pluie;
+    // Rendu de la vision du joueur
+    private final MapRenderer renderer;
 
-    // Générateur aléatoire pour gérer les événements comme la pluie
-    private final Random random = new Random();
-    private static final double PROBABILITE_DEBUT_PLUIE = 0.001; // Probabilité de démarrage de la pluie
-    private static final double PROBABILITE_FIN_PLUIE = 0.001;  // Probabilité d'arrêt de la pluie
+    // Zone affichée, transmise à la simulation (seuls ses êtres vivants sont publiés)
+    private ZoneAffichage zone;
 
     /**
      * Constructeur de la classe Game.
@@ -45,52 +45,80 @@ public class Game {
      *
      * @param mapFilePath Chemin du fichier de la carte environnementale.
      * @param mapVivantFilePath Chemin du fichier des entités vivantes.
+     * @param config Configuration de la simulation (fréquence des ticks).
+     * @param tileSize Taille des cellules affichées.
      * @throws IOException En cas d'erreur de lecture des fichiers.
      */
-    public Game(String mapFilePath, String mapVivantFilePath) throws IOException {
-        mapEnvironnement = new MapEnvironnement(mapFilePath);
-        mapVivant = new MapVivant(mapEnvironnement.getRows(), mapEnvironnement.getCols());
-        player = new Player(46, 50, visionRange, mapEnvironnement);
+    public Game(String mapFilePath, String mapVivantFilePath, SimulationConfig config, int tileSize) throws IOException {
+        simulation = new Simulation(mapFilePath, mapVivantFilePath, config);
+        player = new Player(46, 50, visionRange, simulation.getMapEnvironnement());
+        renderer = new MapRenderer(tileSize, visionRange);
+        zone = renderer.getZoneAffichage(simulation.getMapEnvironnement(), player);
+        simulationLoop = new SimulationLoop(simulation, config, zone);
+    }
 
-        // Chargement des entités sur la carte
-        mapVivant.populate(mapVivantFilePath, 0, 0, 0, mapEnvironnement);
+    /**
+     * Lance le décodage, en parallèle, des textures utilisées au démarrage : terrain et éléments de la carte,
+     * êtres vivants présents sur toute la carte et joueur. Les autres textures (par exemple celles des zombies
+     * si aucun n'est encore apparu) sont décodées à leur premier affichage, sans bloquer celui-ci.
+     * Doit être appelée avant {@link #start()}.
+     *
+     * @param progression Appelée avec la part des textures décodées (entre 0 et 1), depuis un thread de décodage.
+     * @return Tâche terminée lorsque les textures sont décodées.
+     */
+    public CompletableFuture<Void> prechargerTextures(DoubleConsumer progression) {
+        List<Texture> textures = new ArrayList<>();
+        for (Case cell : CaseFactory.getCasesCreees()) {
+            textures.add(cell.getBaseType().getTexture());
+            if (cell.getElement() != null) {
+                textures.add(cell.getElement().getTexture());
+            }
+        }
+        // Tous les êtres vivants de la carte, et non seulement ceux de la vue : la simulation ne tourne pas encore
+        textures.addAll(simulation.getMapVivant().getSprites());
+        textures.add(player.getSprite());
+        return TextureAtlas.precharger(textures, progression);
+    }
 
-        // Initialisation du cycle jour/nuit avec une durée totale de 240 unités
-        dayNightCycleImpl = new DayNightCycleImpl(240);
+    /**
+     * Démarre la simulation sur son propre thread.
+     */
+    public void start() {
+        simulationLoop.start();
+    }
 
-        // Initialisation des précipitations
-        pluie = new Pluie();
+    /**
+     * Arrête le thread de simulation.
+     */
+    public void stop() {
+        simulationLoop.stop();
     }
 
     /**
-     * Met à jour la position des entités vivantes et gère les événements environnementaux.
+     * Met à jour la vue à partir du dernier instantané de la simulation.
+     * Seules les cases qui ont changé sont redessinées (voir {@link MapRenderer}).
      */
-    public void update() {
-        mapVivant.update(mapEnvironnement, dayNightCycleImpl);
-
-        // Vérifier si la pluie doit commencer
-        if (!pluie.isActive() && random.nextDouble() < PROBABILITE_DEBUT_PLUIE) {
-            pluie.demarrer();
-            System.out.println("Pluie");
-            pluie.appliquerEffets(mapVivant);
+    public void displayMap() {
+        // La vue a bougé : la simulation publie désormais les êtres vivants de la nouvelle zone,
+        // et garde chargés les chunks de terrain qu'elle recouvre
+        ZoneAffichage zoneActuelle = renderer.getZoneAffichage(simulation.getMapEnvironnement(), player);
+        if (!zoneActuelle.memeZone(zone)) {
+            zone = zoneActuelle;
+            simulationLoop.setZone(zone);
         }
+        SimulationSnapshot snapshot = simulationLoop.getSnapshot();
 
-        // Vérifier si la pluie doit s'arrêter
-        if (pluie.isActive() && random.nextDouble() < PROBABILITE_FIN_PLUIE) {
-            pluie.arreter();
-            pluie.stopperEffets(mapVivant);
-        }
+        renderer.render(simulation.getMapEnvironnement(), player, snapshot.getVivants(),
+                simulation.getDayNightCycle().getLightingColor(), simulation.getDayNightCycle().getFormattedTime(),
+                snapshot.getPluie());
     }
 
     /**
-     * Affiche la carte et le temps dans une interface graphique.
-     *
-     * @param gridPane Le conteneur graphique pour afficher la carte.
-     * @param titleSize Taille des cellules affichées.
+     * Retourne le nœud de la vue du jeu, à placer dans la scène.
+     * @return La vue.
      */
-    public void displayMap(GridPane gridPane, int titleSize) {
-        mapEnvironnement.displayMap(gridPane, titleSize, player, mapVivant, dayNightCycleImpl.getLightingColor(), pluie);
-        displayTime(gridPane);
+    public Node getVue() {
+        return renderer.getVue();
     }
 
     /**
@@ -116,45 +144,12 @@ public class Game {
         }
     }
 
-    /**
-     * Affiche l'heure actuelle dans l'interface graphique.
-     *
-     * @param gridPane Le conteneur graphique pour afficher l'horloge.
-     */
-    public void displayTime(GridPane gridPane) {
-        Text timeDisplay = new Text(dayNightCycleImpl.getFormattedTime());
-        timeDisplay.setFill(Color.WHITESMOKE);
-        timeDisplay.setStyle(
-                "-fx-font-size: 8px;" +
-                        "-fx-font-family: 'Monospaced';" +
-                        "-fx-fill: #FFD700;"
-        );
-
-        // Créer le rectangle de fond
-        Rectangle background = new Rectangle();
-        background.setWidth(25);
-        background.setHeight(20);
-        background.setArcWidth(10); // Coins arrondis
-        background.setArcHeight(10);
-        background.setFill(Color.BLACK);
-        background.setOpacity(0.6);
-
-        // Empile rectangle et texte dans un StackPane
-        StackPane timePane = new StackPane();
-        timePane.getChildren().addAll(background, timeDisplay);
-
-        // Positionner le StackPane dans le coin supérieur droit
-        gridPane.add(timePane, gridPane.getColumnCount() - 1, 0);
-        GridPane.setColumnSpan(timePane, 1);
-        GridPane.setRowSpan(timePane, 1);
-    }
-
     /**
      * Retourne le nombre de lignes de la carte.
      * @return Nombre de lignes.
      */
     public int getRows() {
-        return mapEnvironnement.getRows();
+        return simulation.getMapEnvironnement().getRows();
     }
 
     /**
@@ -162,7 +157,7 @@ public class Game {
      * @return Nombre de colonnes.
      */
     public int getCols() {
-        return mapEnvironnement.getCols();
+        return simulation.getMapEnvironnement().getCols();
     }
 
     /**
@@ -170,7 +165,15 @@ public class Game {
      * @return Carte environnementale.
      */
     public MapEnvironnement getMap() {
-        return mapEnvironnement;
+        return simulation.getMapEnvironnement();
+    }
+
+    /**
+     * Retourne le moteur de simulation.
+     * @return Simulation.
+     */
+    public Simulation getSimulation() {
+        return simulation;
     }
 
     /**
@@ -0,0 +1,88 @@
+package com.etienne.ecosysteme.core;
+
+import com.etienne.ecosysteme.entities.EtreVivant;
+import com.etienne.ecosysteme.entities.MapVivant;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Point d'entrée sans affichage de la simulation.
+ *
+ * <p>Exécute un nombre donné de ticks aussi vite que possible, sans démarrer JavaFX,
+ * sans charger de texture ni de son, puis affiche le débit obtenu (ticks par seconde).</p>
+ *
+ * <p>Usage : {@code HeadlessMain [ticks] [fichierCarte] [fichierVivants]}.
+ * Les options de {@link SimulationConfig} (graine, mise à jour parallèle) s'appliquent.</p>
+ */
+public class HeadlessMain {
+
+    // Nombre de ticks exécutés par défaut
+    private static final int TICKS_PAR_DEFAUT = 1000;
+
+    // Fichiers de ressources par défaut
+    private static final String MAP_PAR_DEFAUT = "/ressources/map/map_case/nnew_map1_test.txt";
+    private static final String MAP_VIVANT_PAR_DEFAUT = "/ressources/map/map_vivant/map_vivant.txt";
+
+    /**
+     * Lance la simulation sans affichage.
+     * @param args Arguments de ligne de commande : nombre de ticks, carte, carte des vivants.
+     * @throws IOException Si les fichiers nécessaires ne sont pas accessibles.
+     */
+    public static void main(String[] args) throws IOException {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : TICKS_PAR_DEFAUT;
+        String mapFilePath = args.length > 1 ? args[1] : ressource(MAP_PAR_DEFAUT);
+        String mapVivantFilePath = args.length > 2 ? args[2] : ressource(MAP_VIVANT_PAR_DEFAUT);
+
+        SimulationConfig config = SimulationConfig.fromSystemProperties();
+        System.out.println("Graine : " + config.getGraine());
+        Simulation simulation = new Simulation(mapFilePath, mapVivantFilePath, config);
+
+        long debut = System.nanoTime();
+        for (int tick = 1; tick <= ticks; tick++) {
+            simulation.update();
+        }
+        long duree = System.nanoTime() - debut;
+
+        double secondes = duree / 1e9;
+        System.out.printf("%d ticks en %.3f s (%.1f ticks/s)%n", ticks, secondes, ticks / secondes);
+        System.out.println("Temps de jeu : jour " + simulation.getDayNightCycle().getJour()
+                + ", " + simulation.getDayNightCycle().getFormattedTime());
+        System.out.println("Êtres vivants restants : " + simulation.getMapVivant().getNombreEtreVivants());
+        if (simulation.getMapEnvironnement().isChargeeParChunks()) {
+            System.out.println("Chunks de terrain en mémoire : " + simulation.getMapEnvironnement().getNombreChunksCharges());
+        }
+        System.out.printf("Empreinte de l'état final : %016x%n", empreinte(simulation.getMapVivant()));
+    }
+
+    /**
+     * Calcule une empreinte de l'état des êtres vivants (type, position, nourriture),
+     * pour vérifier que deux exécutions avec la même graine sont identiques.
+     *
+     * @param mapVivant Carte des êtres vivants.
+     * @return Empreinte de l'état.
+     */
+    private static long empreinte(MapVivant mapVivant) {
+        long empreinte = 1;
+        for (int row = 0; row < mapVivant.getRows(); row++) {
+            for (int col = 0; col < mapVivant.getCols(); col++) {
+                EtreVivant vivant = mapVivant.getEtreVivant(row, col);
+                if (vivant != null) {
+                    empreinte = 31 * empreinte + ((long) row * mapVivant.getCols() + col);
+                    empreinte = 31 * empreinte + vivant.getClass().getSimpleName().hashCode();
+                    empreinte = 31 * empreinte + vivant.getNourriture();
+                }
+            }
+        }
+        return empreinte;
+    }
+
+    /**
+     * Retourne le chemin d'une ressource du classpath.
+     * @param path Chemin de la ressource.
+     * @return Chemin du fichier correspondant.
+     */
+    private static String ressource(String path) {
+        return Objects.requireNonNull(HeadlessMain.class.getResource(path), "Ressource manquante : " + path).getPath();
+    }
+}
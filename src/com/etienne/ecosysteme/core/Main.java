@@ -1,14 +1,13 @@
 package com.etienne.ecosysteme.core;
 
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
-import javafx.scene.layout.GridPane;
 import javafx.stage.Stage;
 import javafx.scene.input.KeyEvent;
-import javafx.util.Duration;
-import javafx.animation.Timeline;
-import javafx.animation.KeyFrame;
+import javafx.animation.AnimationTimer;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
@@ -20,8 +19,8 @@ public class Main extends Application {
     // Taille de chaque case de la grille
     private static final int TILE_SIZE = 25;
 
-    // Grille utilisée pour afficher les éléments du jeu
-    private GridPane grid;
+    // Titre de la fenêtre
+    private static final String TITRE = "Ecosystème";
 
     // Instance du jeu
     private Game game;
@@ -43,21 +42,18 @@ public class Main extends Application {
     @Override
     public void start(Stage primaryStage) throws IOException {
 
-        // Initialisation de la grille et du jeu
-        grid = new GridPane();
-        game = new Game(mapFilePath, mapVivantFilePath);
-
-        // Affiche la carte initiale dans la grille
-        game.displayMap(grid, TILE_SIZE);
+        // Initialisation du jeu
+        SimulationConfig config = SimulationConfig.fromSystemProperties();
+        game = new Game(mapFilePath, mapVivantFilePath, config, TILE_SIZE);
 
         // Calcule la taille de la fenêtre en fonction de la vision du joueur
         int visionRange = game.getPlayer().getVisionRange();
         int sceneSize = ((2 * visionRange) + 1) * TILE_SIZE;
 
-        Scene scene = new Scene(grid, sceneSize, sceneSize);
+        Scene scene = new Scene(new Group(game.getVue()), sceneSize, sceneSize);
 
         // Définit le titre de la fenêtre
-        primaryStage.setTitle("Ecosystème");
+        primaryStage.setTitle(TITRE);
 
         // Définit l'icône de l'application
         Image icon = new Image(iconFilePath);
@@ -70,14 +66,45 @@ public class Main extends Application {
         // Lance la musique d'ambiance
         playBackgroundMusic();
 
-        // Boucle de mise à jour du jeu toutes les 50 millisecondes
-        Timeline gameLoop = new Timeline(new KeyFrame(Duration.millis(50), event -> {
-            game.update(); // Met à jour les entités et les événements
-            grid.getChildren().clear(); // Efface l'ancienne grille
-            game.displayMap(grid, TILE_SIZE); // Réaffiche la nouvelle carte
-        }));
-        gameLoop.setCycleCount(Timeline.INDEFINITE); // Boucle infinie
-        gameLoop.play();
+        // Décode les textures de la carte en parallèle (progression dans le titre), puis lance le jeu
+        game.prechargerTextures(part -> Platform.runLater(() ->
+                        primaryStage.setTitle(String.format("%s - chargement %d %%", TITRE, Math.round(part * 100)))))
+                .whenComplete((resultat, erreur) -> Platform.runLater(() -> {
+                    if (erreur != null) {
+                        System.err.println("Erreur lors du chargement des textures : " + erreur.getMessage());
+                    }
+                    primaryStage.setTitle(TITRE);
+                    demarrer(scene, config);
+                }));
+    }
+
+    /**
+     * Lance la simulation, la boucle d'affichage et la gestion du clavier, une fois les textures chargées.
+     *
+     * @param scene  La scène de la fenêtre.
+     * @param config Configuration de la simulation (fréquence d'affichage).
+     */
+    private void demarrer(Scene scene, SimulationConfig config) {
+        // Affichage de la carte initiale
+        game.displayMap();
+
+        // La simulation avance sur son propre thread, à pas fixe
+        game.start();
+
+        // Boucle d'affichage, limitée au nombre d'images par seconde configuré
+        long dureeImage = config.getDureeImageNanos();
+        AnimationTimer renderLoop = new AnimationTimer() {
+            private long derniereImage = 0;
+
+            @Override
+            public void handle(long now) {
+                if (now - derniereImage >= dureeImage) {
+                    derniereImage = now;
+                    game.displayMap(); // Ne redessine que ce qui a changé
+                }
+            }
+        };
+        renderLoop.start();
 
         // Gestion des événements clavier pour déplacer le joueur
         scene.setOnKeyPressed((KeyEvent event) -> {
@@ -90,11 +117,20 @@ public class Main extends Application {
             }
 
             // Met à jour l'affichage après un déplacement
-            grid.getChildren().clear();
-            game.displayMap(grid, TILE_SIZE);
+            game.displayMap();
         });
     }
 
+    /**
+     * Arrête le thread de simulation à la fermeture de l'application.
+     */
+    @Override
+    public void stop() {
+        if (game != null) {
+            game.stop();
+        }
+    }
+
     /**
      * Joue une musique d'ambiance en arrière-plan.
      */
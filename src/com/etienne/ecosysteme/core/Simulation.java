@@ -0,0 +1,151 @@
+package com.etienne.ecosysteme.core;
+
+import com.etienne.ecosysteme.entities.MapVivant;
+import com.etienne.ecosysteme.environment.MapEnvironnement;
+import com.etienne.ecosysteme.environment.Pluie;
+import com.etienne.ecosysteme.environment.ZoneAffichage;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Moteur de la simulation de l'écosystème, indépendant de JavaFX.
+ *
+ * <p>Regroupe la carte de l'environnement, la carte des êtres vivants, le cycle jour/nuit
+ * et les précipitations, et fait avancer l'ensemble tick par tick. Aucune texture, aucun son
+ * et aucune boîte à outils graphique n'est nécessaire pour l'utiliser.</p>
+ */
+public class Simulation {
+
+    // Carte de l'environnement et des entités
+    private final MapEnvironnement mapEnvironnement;
+    private final MapVivant mapVivant;
+
+    // Gestion des cycles jour/nuit
+    private final DayNightCycleImpl dayNightCycleImpl;
+
+    // Gestion des précipitations (pluie)
+    private final Pluie pluie;
+
+    // Générateur aléatoire de la simulation, issu de la graine de la configuration.
+    // Chaque être vivant reçoit son propre générateur, dérivé de celui-ci (ou de celui de son parent).
+    private final SplittableRandom random;
+    private static final double PROBABILITE_DEBUT_PLUIE = 0.001; // Probabilité de formation d'un front orageux
+
+    // Nombre de ticks exécutés depuis le début de la simulation
+    private long tick = 0;
+
+    /**
+     * Constructeur de la simulation.
+     * Initialise les cartes et les cycles naturels.
+     *
+     * @param mapFilePath Chemin du fichier de la carte environnementale.
+     * @param mapVivantFilePath Chemin du fichier des entités vivantes.
+     * @param config Configuration de la simulation (graine, mise à jour parallèle).
+     * @throws IOException En cas d'erreur de lecture des fichiers.
+     */
+    public Simulation(String mapFilePath, String mapVivantFilePath, SimulationConfig config) throws IOException {
+        random = new SplittableRandom(config.getGraine());
+        mapEnvironnement = new MapEnvironnement(mapFilePath, config.getChunksMax());
+        mapVivant = new MapVivant(mapEnvironnement.getRows(), mapEnvironnement.getCols());
+        if (config.isParallele()) {
+            mapVivant.setParallelisme(new ForkJoinPool(config.getThreads()));
+        }
+
+        // Chargement des entités sur la carte
+        mapVivant.populate(mapVivantFilePath, 0, 0, 0, mapEnvironnement, random.split());
+
+        // Initialisation du cycle jour/nuit, qui avance d'un tick à chaque mise à jour
+        dayNightCycleImpl = new DayNightCycleImpl(config.getTicksParHeure());
+
+        // Initialisation des précipitations, dont le ralentissement est lu par les êtres vivants
+        pluie = new Pluie(mapEnvironnement.getRows(), mapEnvironnement.getCols(), random.split());
+        mapVivant.setPrecipitation(pluie);
+    }
+
+    /**
+     * Met à jour la position des entités vivantes et gère les événements environnementaux.
+     */
+    public void update() {
+        update(ZoneAffichage.VIDE);
+    }
+
+    /**
+     * Met à jour la position des entités vivantes et gère les événements environnementaux.
+     *
+     * @param zone Zone affichée, dont les chunks de terrain restent chargés.
+     */
+    public void update(ZoneAffichage zone) {
+        tick++;
+        mapVivant.update(mapEnvironnement, dayNightCycleImpl);
+
+        // Libère les chunks de terrain éloignés de tous les êtres vivants et de la vue (carte ouverte par chunks)
+        if (mapEnvironnement.isChargeeParChunks()) {
+            mapVivant.marquerChunksUtilises(mapEnvironnement);
+            mapEnvironnement.marquerUtilise(zone);
+            mapEnvironnement.libererChunks();
+        }
+
+        // Un front orageux peut se former ; les fronts en cours dérivent et se dissipent d'eux-mêmes
+        if (random.nextDouble() < PROBABILITE_DEBUT_PLUIE) {
+            pluie.demarrer();
+            System.out.println("Pluie");
+        }
+        pluie.avancer();
+
+        // Le cycle jour/nuit avance au rythme de la simulation
+        dayNightCycleImpl.avancerTemps();
+    }
+
+    /**
+     * Construit un instantané immuable de l'état à afficher.
+     * Doit être appelé entre deux ticks, par le thread qui exécute la simulation.
+     *
+     * @param zone Zone affichée : seuls ses êtres vivants sont copiés.
+     * @return Instantané de la simulation.
+     */
+    public SimulationSnapshot snapshot(ZoneAffichage zone) {
+        return new SimulationSnapshot(tick, mapVivant.snapshot(zone), pluie.getChamp());
+    }
+
+    /**
+     * Retourne le nombre de ticks exécutés.
+     * @return Nombre de ticks.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Retourne la carte environnementale.
+     * @return Carte environnementale.
+     */
+    public MapEnvironnement getMapEnvironnement() {
+        return mapEnvironnement;
+    }
+
+    /**
+     * Retourne la carte des êtres vivants.
+     * @return Carte des êtres vivants.
+     */
+    public MapVivant getMapVivant() {
+        return mapVivant;
+    }
+
+    /**
+     * Retourne le cycle jour/nuit.
+     * @return Cycle jour/nuit.
+     */
+    public DayNightCycleImpl getDayNightCycle() {
+        return dayNightCycleImpl;
+    }
+
+    /**
+     * Retourne les précipitations.
+     * @return Pluie.
+     */
+    public Pluie getPluie() {
+        return pluie;
+    }
+}
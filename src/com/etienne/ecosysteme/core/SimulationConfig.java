@@ -0,0 +1,196 @@
+package com.etienne.ecosysteme.core;
+
+/**
+ * Paramètres d'exécution de la simulation.
+ *
+ * <p>Les valeurs sont lues dans les propriétés système (par exemple {@code -Decosysteme.tps=40}),
+ * avec des valeurs par défaut équivalentes à l'ancienne boucle à 50 ms. La mise à jour parallèle
+ * est activée par {@code -Decosysteme.parallele=true} ({@code -Decosysteme.threads} pour le nombre
+ * de threads, par défaut le nombre de processeurs). La graine du générateur aléatoire est fixée
+ * par {@code -Decosysteme.graine} (par défaut, une graine différente à chaque lancement).
+ * {@code -Decosysteme.chunks=N} ouvre les cartes binaires par chunks, en gardant au plus N chunks
+ * de terrain en mémoire (par défaut 0 : toute la carte est chargée). Le cycle jour/nuit avance
+ * d'une heure de jeu tous les {@code -Decosysteme.ticksParHeure} ticks (par défaut 200, soit une journée
+ * de 4 minutes à 20 ticks par seconde) : augmenter {@code ecosysteme.tps} accélère aussi les journées.</p>
+ */
+public class SimulationConfig {
+
+    // Noms des propriétés système
+    public static final String PROPRIETE_TPS = "ecosysteme.tps";
+    public static final String PROPRIETE_FPS = "ecosysteme.fps";
+    public static final String PROPRIETE_PARALLELE = "ecosysteme.parallele";
+    public static final String PROPRIETE_THREADS = "ecosysteme.threads";
+    public static final String PROPRIETE_GRAINE = "ecosysteme.graine";
+    public static final String PROPRIETE_CHUNKS = "ecosysteme.chunks";
+    public static final String PROPRIETE_TICKS_PAR_HEURE = "ecosysteme.ticksParHeure";
+
+    // Valeurs par défaut
+    public static final int TPS_PAR_DEFAUT = 20;
+    public static final int FPS_PAR_DEFAUT = 60;
+    public static final int TICKS_PAR_HEURE_PAR_DEFAUT = 200;
+
+    // Nombre de ticks de simulation par seconde
+    private final int ticksParSeconde;
+
+    // Nombre d'images affichées par seconde (au maximum)
+    private final int imagesParSeconde;
+
+    // Nombre de threads de la mise à jour parallèle (0 : mise à jour séquentielle)
+    private final int threads;
+
+    // Graine du générateur aléatoire de la simulation
+    private final long graine;
+
+    // Nombre maximal de chunks de terrain en mémoire (0 : toute la carte est chargée)
+    private final int chunksMax;
+
+    // Nombre de ticks par heure de jeu (cycle jour/nuit)
+    private final int ticksParHeure;
+
+    /**
+     * Constructeur de la configuration.
+     *
+     * @param ticksParSeconde  Nombre de ticks de simulation par seconde.
+     * @param imagesParSeconde Nombre maximal d'images par seconde.
+     * @param threads          Nombre de threads de la mise à jour parallèle (0 pour une mise à jour séquentielle).
+     * @param graine           Graine du générateur aléatoire de la simulation.
+     * @throws IllegalArgumentException Si une des valeurs est invalide.
+     */
+    public SimulationConfig(int ticksParSeconde, int imagesParSeconde, int threads, long graine) {
+        this(ticksParSeconde, imagesParSeconde, threads, graine, 0);
+    }
+
+    /**
+     * Constructeur de la configuration, avec chargement de la carte par chunks.
+     *
+     * @param ticksParSeconde  Nombre de ticks de simulation par seconde.
+     * @param imagesParSeconde Nombre maximal d'images par seconde.
+     * @param threads          Nombre de threads de la mise à jour parallèle (0 pour une mise à jour séquentielle).
+     * @param graine           Graine du générateur aléatoire de la simulation.
+     * @param chunksMax        Nombre maximal de chunks de terrain en mémoire (0 pour charger toute la carte).
+     * @throws IllegalArgumentException Si une des valeurs est invalide.
+     */
+    public SimulationConfig(int ticksParSeconde, int imagesParSeconde, int threads, long graine, int chunksMax) {
+        this(ticksParSeconde, imagesParSeconde, threads, graine, chunksMax, TICKS_PAR_HEURE_PAR_DEFAUT);
+    }
+
+    /**
+     * Constructeur complet de la configuration.
+     *
+     * @param ticksParSeconde  Nombre de ticks de simulation par seconde.
+     * @param imagesParSeconde Nombre maximal d'images par seconde.
+     * @param threads          Nombre de threads de la mise à jour parallèle (0 pour une mise à jour séquentielle).
+     * @param graine           Graine du générateur aléatoire de la simulation.
+     * @param chunksMax        Nombre maximal de chunks de terrain en mémoire (0 pour charger toute la carte).
+     * @param ticksParHeure    Nombre de ticks par heure de jeu.
+     * @throws IllegalArgumentException Si une des valeurs est invalide.
+     */
+    public SimulationConfig(int ticksParSeconde, int imagesParSeconde, int threads, long graine, int chunksMax,
+                            int ticksParHeure) {
+        if (ticksParSeconde <= 0 || imagesParSeconde <= 0 || ticksParHeure <= 0) {
+            throw new IllegalArgumentException("Les fréquences doivent être strictement positives");
+        }
+        if (threads < 0) {
+            throw new IllegalArgumentException("Le nombre de threads doit être positif");
+        }
+        if (chunksMax < 0) {
+            throw new IllegalArgumentException("Le nombre de chunks doit être positif");
+        }
+        this.ticksParSeconde = ticksParSeconde;
+        this.imagesParSeconde = imagesParSeconde;
+        this.threads = threads;
+        this.graine = graine;
+        this.chunksMax = chunksMax;
+        this.ticksParHeure = ticksParHeure;
+    }
+
+    /**
+     * Construit la configuration à partir des propriétés système.
+     * @return La configuration correspondante.
+     */
+    public static SimulationConfig fromSystemProperties() {
+        int threads = Boolean.getBoolean(PROPRIETE_PARALLELE)
+                ? Integer.getInteger(PROPRIETE_THREADS, Runtime.getRuntime().availableProcessors())
+                : 0;
+        return new SimulationConfig(
+                Integer.getInteger(PROPRIETE_TPS, TPS_PAR_DEFAUT),
+                Integer.getInteger(PROPRIETE_FPS, FPS_PAR_DEFAUT),
+                threads,
+                Long.getLong(PROPRIETE_GRAINE, System.nanoTime()),
+                Integer.getInteger(PROPRIETE_CHUNKS, 0),
+                Integer.getInteger(PROPRIETE_TICKS_PAR_HEURE, TICKS_PAR_HEURE_PAR_DEFAUT));
+    }
+
+    /**
+     * Retourne le nombre de ticks de simulation par seconde.
+     * @return Ticks par seconde.
+     */
+    public int getTicksParSeconde() {
+        return ticksParSeconde;
+    }
+
+    /**
+     * Retourne le nombre maximal d'images affichées par seconde.
+     * @return Images par seconde.
+     */
+    public int getImagesParSeconde() {
+        return imagesParSeconde;
+    }
+
+    /**
+     * Indique si la mise à jour parallèle des êtres vivants est activée.
+     * @return {@code true} si la mise à jour est parallèle.
+     */
+    public boolean isParallele() {
+        return threads > 0;
+    }
+
+    /**
+     * Retourne le nombre de threads de la mise à jour parallèle.
+     * @return Nombre de threads (0 si la mise à jour est séquentielle).
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Retourne la graine du générateur aléatoire de la simulation.
+     * Deux exécutions avec la même graine et la même configuration donnent le même résultat.
+     * @return Graine.
+     */
+    public long getGraine() {
+        return graine;
+    }
+
+    /**
+     * Retourne le nombre maximal de chunks de terrain gardés en mémoire.
+     * @return Nombre de chunks (0 si toute la carte est chargée).
+     */
+    public int getChunksMax() {
+        return chunksMax;
+    }
+
+    /**
+     * Retourne le nombre de ticks par heure de jeu.
+     * @return Ticks par heure.
+     */
+    public int getTicksParHeure() {
+        return ticksParHeure;
+    }
+
+    /**
+     * Retourne la durée d'un tick de simulation.
+     * @return Durée d'un tick en nanosecondes.
+     */
+    public long getDureeTickNanos() {
+        return 1_000_000_000L / ticksParSeconde;
+    }
+
+    /**
+     * Retourne la durée minimale entre deux images.
+     * @return Durée d'une image en nanosecondes.
+     */
+    public long getDureeImageNanos() {
+        return 1_000_000_000L / imagesParSeconde;
+    }
+}
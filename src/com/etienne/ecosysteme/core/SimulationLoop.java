@@ -0,0 +1,126 @@
+package com.etienne.ecosysteme.core;
+
+import com.etienne.ecosysteme.environment.ZoneAffichage;
+
+/**
+ * Boucle de simulation à pas fixe, exécutée sur son propre thread.
+ *
+ * <p>Le temps écoulé est accumulé et la simulation avance d'autant de ticks de durée fixe
+ * qu'il en contient. Un tick lent ne bloque donc plus l'affichage, et un affichage lent
+ * ne ralentit plus la simulation. Après chaque série de ticks, un instantané immuable
+ * de la zone affichée (transmise par le thread JavaFX) est publié pour celui-ci.</p>
+ */
+public class SimulationLoop implements Runnable {
+
+    // Nombre maximal de ticks rattrapés en une itération (évite la spirale de retard)
+    private static final int MAX_TICKS_PAR_ITERATION = 5;
+
+    private final Simulation simulation;
+    private final long dureeTickNanos;
+
+    // Dernier instantané publié, et zone affichée dont il copie les êtres vivants
+    private volatile SimulationSnapshot snapshot;
+    private volatile ZoneAffichage zone;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * Constructeur de la boucle de simulation.
+     *
+     * @param simulation La simulation à faire avancer.
+     * @param config     Configuration (fréquence des ticks).
+     * @param zone       Zone affichée au démarrage.
+     */
+    public SimulationLoop(Simulation simulation, SimulationConfig config, ZoneAffichage zone) {
+        this.simulation = simulation;
+        this.dureeTickNanos = config.getDureeTickNanos();
+        this.zone = zone;
+        this.snapshot = simulation.snapshot(zone);
+    }
+
+    /**
+     * Démarre le thread de simulation.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Arrête le thread de simulation et attend sa fin.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    @Override
+    public void run() {
+        long precedent = System.nanoTime();
+        long accumulateur = 0;
+
+        while (running) {
+            long maintenant = System.nanoTime();
+            accumulateur += maintenant - precedent;
+            precedent = maintenant;
+
+            // Avance d'autant de ticks fixes que le temps accumulé le permet
+            int ticks = 0;
+            while (accumulateur >= dureeTickNanos && ticks < MAX_TICKS_PAR_ITERATION) {
+                simulation.update(zone);
+                accumulateur -= dureeTickNanos;
+                ticks++;
+            }
+
+            // Trop de retard : on abandonne le temps restant plutôt que de le rattraper
+            if (ticks == MAX_TICKS_PAR_ITERATION) {
+                accumulateur = Math.min(accumulateur, dureeTickNanos);
+            }
+
+            if (ticks > 0) {
+                snapshot = simulation.snapshot(zone);
+            }
+
+            // Attente jusqu'au prochain tick
+            long attente = dureeTickNanos - accumulateur - (System.nanoTime() - precedent);
+            if (attente > 0) {
+                try {
+                    Thread.sleep(attente / 1_000_000, (int) (attente % 1_000_000));
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Définit la zone affichée, prise en compte au prochain tick (chunks de terrain gardés chargés)
+     * et à la prochaine publication.
+     * @param zone Zone affichée.
+     */
+    public void setZone(ZoneAffichage zone) {
+        this.zone = zone;
+    }
+
+    /**
+     * Retourne le dernier instantané publié par la simulation.
+     * @return Instantané de la simulation.
+     */
+    public SimulationSnapshot getSnapshot() {
+        return snapshot;
+    }
+}
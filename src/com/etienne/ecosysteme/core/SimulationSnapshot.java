@@ -0,0 +1,56 @@
+package com.etienne.ecosysteme.core;
+
+import com.etienne.ecosysteme.entities.MapVivantSnapshot;
+import com.etienne.ecosysteme.environment.ChampPluie;
+
+/**
+ * État immuable de la simulation publié après un tick, lu par l'affichage.
+ */
+public final class SimulationSnapshot {
+
+    // Numéro du tick à l'issue duquel l'instantané a été pris
+    private final long tick;
+
+    // Instantané des êtres vivants
+    private final MapVivantSnapshot vivants;
+
+    // Intensité de la pluie sur la carte
+    private final ChampPluie pluie;
+
+    /**
+     * Constructeur de l'instantané.
+     *
+     * @param tick        Numéro du tick.
+     * @param vivants     Instantané des êtres vivants.
+     * @param pluie       Intensité de la pluie sur la carte.
+     */
+    public SimulationSnapshot(long tick, MapVivantSnapshot vivants, ChampPluie pluie) {
+        this.tick = tick;
+        this.vivants = vivants;
+        this.pluie = pluie;
+    }
+
+    /**
+     * Retourne le numéro du tick de l'instantané.
+     * @return Numéro du tick.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Retourne l'instantané des êtres vivants.
+     * @return Instantané des êtres vivants.
+     */
+    public MapVivantSnapshot getVivants() {
+        return vivants;
+    }
+
+    /**
+     * Retourne l'intensité de la pluie sur la carte.
+     * @return Champ de la pluie.
+     */
+    public ChampPluie getPluie() {
+        return pluie;
+    }
+}
@@ -1,8 +1,9 @@
 package com.etienne.ecosysteme.entities;
 
 import com.etienne.ecosysteme.environment.MapEnvironnement;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
+import com.etienne.ecosysteme.environment.Texture;
+
+import java.util.SplittableRandom;
 
 /**
  * Classe abstraite représentant un animal dans l'écosystème.
@@ -18,6 +19,9 @@ public abstract class Animaux extends EtreVivant {
     // Type spécifique de l'animal (par exemple, cerf, ours, etc.)
     private final Type type;
 
+    // Identifiant des sprites du type (voir SpriteManager).
+    private final int spriteHandle;
+
     /**
      * Constructeur de la classe Animaux.
      *
@@ -27,10 +31,12 @@ public abstract class Animaux extends EtreVivant {
      * @param nourriture   Quantité de nourriture de l'animal.
      * @param visionRange  Portée de vision de l'animal.
      * @param type         Type de l'animal (défini par l'enum Type).
+     * @param random       Générateur aléatoire de l'animal.
      */
-    public Animaux(int row, int col, int vitesse, int nourriture, int visionRange, Type type) {
-        super(row, col, vitesse, nourriture, visionRange);
+    public Animaux(int row, int col, int vitesse, int nourriture, int visionRange, Type type, SplittableRandom random) {
+        super(row, col, vitesse, nourriture, visionRange, random);
         this.type = type;
+        this.spriteHandle = SpriteManager.getInstance().getHandle(typeToSring(type));
     }
 
     /**
@@ -44,30 +50,14 @@ public abstract class Animaux extends EtreVivant {
      */
     public abstract void gen_deplacement(MapVivant mapVivant, MapEnvironnement grid, int row, int col);
 
-    /**
-     * Retourne le sprite actuel de l'animal sous forme d'une ImageView.
-     * L'image est redimensionnée en fonction de la taille des cases.
-     *
-     * @param tileSize Taille d'un carré élémentaire sur la carte.
-     * @return ImageView représentant l'animal.
-     */
-    @Override
-    public ImageView getSprite(int tileSize) {
-        Image sprite = getCurrentSprite();
-        ImageView imageView = new ImageView(sprite);
-        imageView.setFitWidth(tileSize);
-        imageView.setFitHeight(tileSize);
-        return imageView;
-    }
-
     /**
      * Obtient le sprite actuel de l'animal basé sur sa direction et son animation.
      *
-     * @return L'image actuelle du sprite.
+     * @return La texture actuelle du sprite.
      */
-    private Image getCurrentSprite() {
-        Image[] directionSprites = SpriteManager.getInstance().getSprites(typeToSring(getType()), getLastDirection());
-        return directionSprites[getAnimationFrame()];
+    @Override
+    public Texture getCurrentSprite() {
+        return SpriteManager.getInstance().getSprite(spriteHandle, getLastDirection(), getAnimationFrame());
     }
 
     /**
@@ -85,7 +75,7 @@ public abstract class Animaux extends EtreVivant {
      * @param type Type de l'animal.
      * @return Nom du type sous forme de chaîne (par exemple, "deer" pour DEER).
      */
-    private String typeToSring(Animaux.Type type) {
+    private static String typeToSring(Animaux.Type type) {
         return switch (type) {
             case DEER -> "deer";
             case BEAR -> "bear";
@@ -1,7 +1,7 @@
 package com.etienne.ecosysteme.entities;
 
 import com.etienne.ecosysteme.environment.MapEnvironnement;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Classe représentant un ours (Bear) dans l'écosystème.
@@ -13,18 +13,16 @@ public class Bear extends Animaux {
     private final int centralRow; // Ligne centrale
     private final int centralCol; // Colonne centrale
 
-    // Générateur aléatoire pour les déplacements erratiques
-    private final Random random = new Random();
-
     /**
      * Constructeur de la classe Bear.
      * Initialise un ours avec une position centrale, une vitesse fixe et une portée de vision spécifique.
      *
      * @param row Ligne initiale de l'ours.
      * @param col Colonne initiale de l'ours.
+     * @param random Générateur aléatoire de l'ours.
      */
-    public Bear(int row, int col) {
-        super(row, col, 40, 1, 10, Type.BEAR); // Appel au constructeur de la classe Animaux
+    public Bear(int row, int col, SplittableRandom random) {
+        super(row, col, 40, 1, 10, Type.BEAR, random); // Appel au constructeur de la classe Animaux
         this.centralRow = row; // Définit la position centrale de l'ours
         this.centralCol = col;
     }
@@ -2,7 +2,6 @@ package com.etienne.ecosysteme.entities;
 
 import com.etienne.ecosysteme.environment.MapEnvironnement;
 import java.util.*;
-import java.util.function.BiFunction;
 
 /**
  * Classe représentant un lapin (Bunny) dans l'écosystème.
@@ -16,9 +15,10 @@ public class Bunny extends Animaux {
      *
      * @param row Ligne initiale du lapin.
      * @param col Colonne initiale du lapin.
+     * @param random Générateur aléatoire du lapin.
      */
-    public Bunny(int row, int col) {
-        super(row, col, 10, 1, 5, Type.BUNNY); // Vitesse rapide, portée de vision courte.
+    public Bunny(int row, int col, SplittableRandom random) {
+        super(row, col, 10, 1, 5, Type.BUNNY, random); // Vitesse rapide, portée de vision courte.
     }
 
     /**
@@ -33,18 +33,11 @@ public class Bunny extends Animaux {
      */
     @Override
     public void gen_deplacement(MapVivant mapVivants, MapEnvironnement grid, int row, int col) {
-        Random random = new Random();
-
-        // Récupère tous les êtres vivants dans le rayon de vision du lapin
-        List<EtreVivant> vivantsProches = getEtreVivantsDansRayon(mapVivants, grid, getVisionRange(), -1);
-
-        // Filtre pour ne garder que les menaces (par exemple, loups, ours)
-        List<EtreVivant> menaces = vivantsProches.stream()
-                .filter(vivant -> vivant.isMenace(this))
-                .toList();
+        // Perçoit les menaces visibles (par exemple, loups, ours)
+        Perception perception = percevoir(mapVivants, grid, getVisionRange(), -1, MENACES, null);
 
         // Si aucune menace n'est détectée
-        if (menaces.isEmpty()) {
+        if (perception.cibles.estVide()) {
             // Faible probabilité de bouger (10%)
             if (random.nextDouble() >= 0.1) {
                 return; // Le lapin ne bouge pas
@@ -59,31 +52,10 @@ public class Bunny extends Animaux {
         }
 
         // Si des menaces sont détectées, le lapin cherche à maximiser la distance avec elles
-        int[] direction = seDeplacerSelonScore(mapVivants, grid, calculerScoreLapin(menaces));
+        // (score : somme des distances au carré aux menaces)
+        int[] direction = seDeplacerSelonScore(mapVivants, grid, perception.eloignement());
         if (direction != null) {
             updateAnimation(parseDirection(direction));
         }
     }
-
-    /**
-     * Définit une fonction de calcul de score pour les déplacements du lapin.
-     * Le score est basé sur la distance par rapport aux menaces détectées :
-     * le lapin privilégie les positions les plus éloignées des menaces.
-     *
-     * @param menaces Liste des menaces (loups, ours, etc.).
-     * @return Une fonction de calcul du score pour les positions.
-     */
-    private BiFunction<Integer, Integer, Double> calculerScoreLapin(List<EtreVivant> menaces) {
-        return (newRow, newCol) -> {
-            double score = 0;
-
-            // Maximiser la distance par rapport à chaque menace
-            for (EtreVivant menace : menaces) {
-                double distance = Math.pow(newCol - menace.getCol(), 2) + Math.pow(newRow - menace.getRow(), 2);
-                score += distance; // Plus la distance est grande, plus le score est élevé
-            }
-
-            return score;
-        };
-    }
 }
@@ -48,7 +48,18 @@ public class CompteurDeplacement {
      * @return true si l'entité doit se déplacer, false sinon.
      */
     public boolean doitSeDeplacer() {
-        return this.compteur >= this.vitesse;
+        return doitSeDeplacer(0);
+    }
+
+    /**
+     * Vérifie si l'entité doit se déplacer, avec un ralentissement temporaire (par exemple la pluie).
+     * L'entité se déplace uniquement si le compteur atteint ou dépasse la vitesse augmentée du ralentissement.
+     *
+     * @param ralentissement Nombre d'incréments supplémentaires avant le déplacement (positif ou nul).
+     * @return true si l'entité doit se déplacer, false sinon.
+     */
+    public boolean doitSeDeplacer(int ralentissement) {
+        return this.compteur >= this.vitesse + ralentissement;
     }
 
     /**
@@ -2,10 +2,10 @@ package com.etienne.ecosysteme.entities;
 
 import com.etienne.ecosysteme.core.DayNightCycleImpl;
 import com.etienne.ecosysteme.environment.MapEnvironnement;
-import javafx.scene.image.ImageView;
+import com.etienne.ecosysteme.environment.Texture;
 
 import java.util.*;
-import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 
 /**
  * Classe abstraite représentant un être vivant dans la simulation d'écosystème.
@@ -21,7 +21,7 @@ import java.util.function.BiFunction;
  *
  * <p>Les sous-classes doivent implémenter :</p>
  * <ul>
- *   <li>{@link #getSprite(int)} : retourne l'apparence graphique de l'entité.</li>
+ *   <li>{@link #getCurrentSprite()} : retourne l'apparence graphique de l'entité.</li>
  *   <li>{@link #gen_deplacement(MapVivant, MapEnvironnement, int, int)} : génère le comportement de déplacement.</li>
  * </ul>
  */
@@ -32,16 +32,25 @@ public abstract class EtreVivant implements IDeplacement {
     protected int col;
 
     // Variables pour les déplacements
-    private int directionRow; // Direction actuelle (ligne)
-    private int directionCol; // Direction actuelle (colonne)
+    private int[] directionRecherche = AUCUNE_DIRECTION; // Direction actuelle (une entrée partagée de DIRECTIONS)
     private int stepsCurrentDir; // Nombre de pas dans la direction actuelle
 
     // Caractéristiques de l'entité
     private int vitesse; // Fréquence des déplacements (en cycles)
     private final CompteurDeplacement compteurDeplacement; // Compteur pour gérer les cycles de déplacement
+    private DayNightCycleImpl.Cycle cycle; // Cycle jour/nuit pris en compte dans la vitesse (null : aucun)
     private int nourriture; // Quantité de nourriture disponible
     private int visionRange; // Rayon de vision (en unités de grille)
 
+    // Position dans le registre de MapVivant (-1 si l'être vivant n'est pas sur la carte)
+    int indexRegistre = -1;
+
+    // Générateur aléatoire propre à l'être vivant (issu de la graine de la simulation)
+    protected final SplittableRandom random;
+
+    // Ordre des directions essayées par le mouvement erratique (mélangé à chaque appel)
+    private final int[][] directionsMelangees = DIRECTIONS.clone();
+
     // Directions possibles pour les déplacements
     public static final int[][] DIRECTIONS = {
             {-1, 0}, // Haut
@@ -50,6 +59,9 @@ public abstract class EtreVivant implements IDeplacement {
             {0, -1}  // Gauche
     };
 
+    // Direction nulle, avant le premier tirage d'une direction de recherche
+    private static final int[] AUCUNE_DIRECTION = {0, 0};
+
     // Enumération pour représenter les directions
     public enum Direction {
         UP, DOWN, LEFT, RIGHT
@@ -93,18 +105,19 @@ public abstract class EtreVivant implements IDeplacement {
      * @param vitesse      La vitesse de déplacement (en cycles).
      * @param nourriture   La quantité initiale de nourriture.
      * @param visionRange  Le rayon de vision de l'entité.
+     * @param random       Le générateur aléatoire de l'entité (par exemple {@code parent.split()}).
      */
-    public EtreVivant(int row, int col, int vitesse, int nourriture, int visionRange) {
+    public EtreVivant(int row, int col, int vitesse, int nourriture, int visionRange, SplittableRandom random) {
         this.row = row;
         this.col = col;
         this.vitesse = vitesse;
         this.nourriture = nourriture;
         this.visionRange = visionRange;
+        this.random = random;
         this.compteurDeplacement = new CompteurDeplacement(getVitesse());
         setRandomDirection();
 
         // Nombre de pas initiaux dans une direction aléatoire
-        Random random = new Random();
         this.stepsCurrentDir = random.nextInt(6) + 4; // Entre 4 et 8 pas
     }
 
@@ -126,6 +139,10 @@ public abstract class EtreVivant implements IDeplacement {
         return nourriture;
     }
 
+    public SplittableRandom getRandom() {
+        return random;
+    }
+
     public int getVisionRange() {
         return visionRange;
     }
@@ -147,7 +164,7 @@ public abstract class EtreVivant implements IDeplacement {
 
     public void setVitesse(int vitesse) {
         this.vitesse = vitesse;
-        this.compteurDeplacement.setVitesse(vitesse);
+        appliquerVitesse();
     }
 
     public void setNourriture(int nourriture) {
@@ -170,14 +187,13 @@ public abstract class EtreVivant implements IDeplacement {
      * Définit une direction aléatoire pour l'entité.
      */
     protected void setRandomDirection() {
-        Random random = new Random();
-        int[] randomDirection = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
-        this.directionRow = randomDirection[0];
-        this.directionCol = randomDirection[1];
+        this.directionRecherche = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
     }
 
     /**
-     * Met à jour le déplacement de l'être vivant en fonction du cycle actuel.
+     * Met à jour le déplacement de l'être vivant.
+     * La vitesse tient déjà compte du cycle jour/nuit (voir {@link #adjustVitesse(DayNightCycleImpl.Cycle)}) ;
+     * le ralentissement dû aux précipitations à la position de l'être vivant s'y ajoute.
      *
      * <p>Gère l'incrémentation du compteur de déplacement et détermine
      * si un déplacement est nécessaire. Si oui, appelle la méthode abstraite
@@ -188,17 +204,13 @@ public abstract class EtreVivant implements IDeplacement {
      * @param grid        L'environnement représentant la grille de simulation.
      * @param row         La ligne cible pour le déplacement.
      * @param col         La colonne cible pour le déplacement.
-     * @param dayNightCycle Le cycle jour/nuit actuel.
      */
-    public void updateDeplacement(MapVivant mapVivant, MapEnvironnement grid, int row, int col, DayNightCycleImpl dayNightCycle) {
-        // Ajuste la vitesse selon le cycle jour/nuit
-        adjustVitesse(dayNightCycle.getCurrentCycle());
-
+    public void updateDeplacement(MapVivant mapVivant, MapEnvironnement grid, int row, int col) {
         // Incrémente le compteur de déplacement
         this.compteurDeplacement.incrementer();
 
-        // Vérifie si un déplacement doit être effectué
-        if (this.compteurDeplacement.doitSeDeplacer()) {
+        // Vérifie si un déplacement doit être effectué (en tenant compte des précipitations)
+        if (this.compteurDeplacement.doitSeDeplacer(mapVivant.getRalentissement(row, col))) {
             // Appelle la méthode de déplacement spécifique et réinitialise le compteur
             gen_deplacement(mapVivant, grid, row, col);
             this.compteurDeplacement.reset();
@@ -207,10 +219,25 @@ public abstract class EtreVivant implements IDeplacement {
 
     /**
      * Ajuste la vitesse de l'être vivant en fonction du cycle jour/nuit.
+     * Appelée par {@link MapVivant} à chaque changement de cycle (et au placement de l'être vivant),
+     * et non à chaque tick : la vitesse effective est gardée jusqu'au prochain changement.
      *
      * @param cycle Le cycle actuel (jour, crépuscule, aurore, nuit).
      */
     public void adjustVitesse(DayNightCycleImpl.Cycle cycle) {
+        this.cycle = cycle;
+        appliquerVitesse();
+    }
+
+    /**
+     * Recalcule la vitesse effective du compteur de déplacement, à partir de la vitesse
+     * de l'être vivant et du cycle jour/nuit en cours.
+     */
+    private void appliquerVitesse() {
+        if (cycle == null) {
+            compteurDeplacement.setVitesse(getVitesse());
+            return;
+        }
         switch (cycle) {
             case JOUR -> compteurDeplacement.setVitesse((int) (getVitesse() * getFacteurVitesseJour())); // Vitesse spécifique au jour
             case CREPUSCULE, AURORE -> compteurDeplacement.setVitesse(getVitesse()); // Pas de changement pour ces cycles
@@ -242,6 +269,7 @@ public abstract class EtreVivant implements IDeplacement {
     /**
      * Récupère une liste des êtres vivants situés dans un rayon défini autour de cet être vivant.
      * Prend en compte les obstacles et la distance maximale de perception.
+     * Alloue une nouvelle liste à chaque appel : les déplacements utilisent {@link #percevoir}.
      *
      * @param mapVivant   La carte contenant tous les êtres vivants.
      * @param grid        La grille de simulation représentant l'environnement.
@@ -252,31 +280,67 @@ public abstract class EtreVivant implements IDeplacement {
     public List<EtreVivant> getEtreVivantsDansRayon(MapVivant mapVivant, MapEnvironnement grid, int visionRange, double maxDistance) {
         List<EtreVivant> etresVivants = new ArrayList<>();
 
-        // Détermine les limites du rayon de recherche
-        int startRow = Math.max(0, getRow() - visionRange);
-        int startCol = Math.max(0, getCol() - visionRange);
-        int endRow = Math.min(mapVivant.getRows() - 1, getRow() + visionRange);
-        int endCol = Math.min(mapVivant.getCols() - 1, getCol() + visionRange);
-
-        // Parcourt les cases dans le rayon pour identifier les êtres vivants
-        for (int r = startRow; r <= endRow; r++) {
-            for (int c = startCol; c <= endCol; c++) {
-                double distance = Math.pow(getRow() - r, 2) + Math.pow(getCol() - c, 2);
-
-                // Vérifie si la case est dans le rayon de vision
-                if (distance <= Math.pow(visionRange, 2)) {
-                    EtreVivant vivant = mapVivant.getEtreVivant(r, c);
-
-                    // Ajoute les êtres vivants visibles et non bloqués par des obstacles
-                    if (vivant != null && vivant != this && MapEnvironnement.isPathClear(grid, getRow(), getCol(), r, c, maxDistance)) {
-                        etresVivants.add(vivant);
-                    }
-                }
+        // Interroge l'index spatial : seules les cellules non vides qui recouvrent le rayon sont visitées
+        mapVivant.getSpatialIndex().rechercher(getRow(), getCol(), visionRange, etresVivants);
+
+        // Ne garde que les êtres vivants visibles et non bloqués par des obstacles
+        int nbVisibles = 0;
+        for (int i = 0; i < etresVivants.size(); i++) {
+            EtreVivant vivant = etresVivants.get(i);
+            if (vivant != this && MapEnvironnement.isPathClear(grid, getRow(), getCol(), vivant.getRow(), vivant.getCol(), maxDistance)) {
+                etresVivants.set(nbVisibles++, vivant);
             }
         }
+        etresVivants.subList(nbVisibles, etresVivants.size()).clear();
         return etresVivants;
     }
 
+    // Filtre de perception : les êtres vivants qui menacent l'observateur
+    protected static final BiPredicate<EtreVivant, EtreVivant> MENACES = (observateur, vivant) -> vivant.isMenace(observateur);
+
+    /**
+     * Perçoit les êtres vivants visibles dans un rayon autour de cet être vivant, sans allocation :
+     * les positions de ceux qui vérifient un filtre sont rangées dans les tampons du thread courant
+     * (les cibles, et éventuellement les voisins), dans l'ordre de l'index spatial.
+     * Les filtres sont testés avant la ligne de vue, plus coûteuse.
+     *
+     * @param mapVivant     La carte contenant tous les êtres vivants.
+     * @param grid          La grille de simulation représentant l'environnement.
+     * @param visionRange   Le rayon dans lequel rechercher les êtres vivants.
+     * @param maxDistance   La distance maximale de perception.
+     * @param filtreCibles  Sélection des cibles (reçoit cet être vivant, puis l'être vivant perçu).
+     * @param filtreVoisins Sélection des voisins, ou {@code null} pour ne pas en chercher.
+     * @return Les tampons de perception remplis, valables jusqu'à la perception suivante du thread.
+     */
+    Perception percevoir(MapVivant mapVivant, MapEnvironnement grid, int visionRange, double maxDistance,
+                         BiPredicate<EtreVivant, EtreVivant> filtreCibles, BiPredicate<EtreVivant, EtreVivant> filtreVoisins) {
+        Perception perception = Perception.get();
+        List<EtreVivant> candidats = perception.candidats;
+        perception.cibles.vider();
+        perception.voisins.vider();
+
+        mapVivant.getSpatialIndex().rechercher(getRow(), getCol(), visionRange, candidats);
+        for (int i = 0; i < candidats.size(); i++) {
+            EtreVivant vivant = candidats.get(i);
+            if (vivant == this) {
+                continue;
+            }
+            boolean cible = filtreCibles.test(this, vivant);
+            boolean voisin = filtreVoisins != null && filtreVoisins.test(this, vivant);
+            if ((cible || voisin) && MapEnvironnement.isPathClear(grid, getRow(), getCol(), vivant.getRow(), vivant.getCol(), maxDistance)) {
+                if (cible) {
+                    perception.cibles.ajouter(vivant);
+                }
+                if (voisin) {
+                    perception.voisins.ajouter(vivant);
+                }
+            }
+        }
+        // Ne garde pas de référence vers les êtres vivants jusqu'à la perception suivante
+        candidats.clear();
+        return perception;
+    }
+
     /**
      * Vérifie si cet être vivant est une menace pour un autre être vivant.
      *
@@ -289,12 +353,15 @@ public abstract class EtreVivant implements IDeplacement {
     }
 
     /**
-     * Méthode abstraite pour obtenir l'apparence graphique de l'être vivant.
+     * Méthode abstraite pour obtenir l'image actuelle de l'être vivant,
+     * en fonction de sa direction et de son animation.
+     * C'est la seule représentation graphique exposée : la texture partagée (image de l'atlas et zone de la frame)
+     * est dessinée directement sur le canvas par {@link com.etienne.ecosysteme.environment.MapRenderer},
+     * sans créer de nœud par être vivant.
      *
-     * @param tileSize La taille des cases sur la carte.
-     * @return Une ImageView représentant le sprite de l'entité.
+     * @return La texture actuelle du sprite.
      */
-    public abstract ImageView getSprite(int tileSize);
+    public abstract Texture getCurrentSprite();
 
     // Implémentation de l'interface Déplacement
     @Override
@@ -316,12 +383,11 @@ public abstract class EtreVivant implements IDeplacement {
     public boolean deplacerVers(int newRow, int newCol, MapVivant mapVivants, MapEnvironnement grid) {
         // Vérifie si la position est valide
         if (newRow >= 0 && newRow < grid.getRows() && newCol >= 0 && newCol < grid.getCols() &&
-                !grid.getCell(newRow, newCol).isObstacle() && mapVivants.getEtreVivant(newRow, newCol) == null) {
-            // Met à jour la position
-            mapVivants.setEtreVivant(row, col, null);
+                !grid.isObstacle(newRow, newCol) && mapVivants.getEtreVivant(newRow, newCol) == null) {
+            // Met à jour la position (et l'index spatial)
+            mapVivants.deplacerEtreVivant(this, row, col, newRow, newCol);
             row = newRow;
             col = newCol;
-            mapVivants.setEtreVivant(row, col, this);
             return true;
         }
         return false; // Déplacement impossible
@@ -338,9 +404,15 @@ public abstract class EtreVivant implements IDeplacement {
      */
     @Override
     public int[] mouvementErratique(MapVivant mapVivants, MapEnvironnement grid, int row, int col) {
-        // Mélange les directions pour ajouter de l'aléatoire
-        List<int[]> shuffledDirections = Arrays.asList(EtreVivant.DIRECTIONS);
-        Collections.shuffle(shuffledDirections);
+        // Mélange (Fisher-Yates) la copie des directions propre à l'être vivant
+        // (le tableau partagé DIRECTIONS ne doit pas être modifié, il est lu par tous les êtres vivants)
+        int[][] shuffledDirections = directionsMelangees;
+        for (int i = shuffledDirections.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int[] tmp = shuffledDirections[i];
+            shuffledDirections[i] = shuffledDirections[j];
+            shuffledDirections[j] = tmp;
+        }
 
         for (int[] direction : shuffledDirections) {
             int newRow = row + direction[0];
@@ -362,7 +434,7 @@ public abstract class EtreVivant implements IDeplacement {
      * @return Un tableau contenant la direction du meilleur déplacement, ou {@code null} si aucun déplacement n'a eu lieu.
      */
     @Override
-    public int[] seDeplacerSelonScore(MapVivant mapVivants, MapEnvironnement grid, BiFunction<Integer, Integer, Double> calculerScore) {
+    public int[] seDeplacerSelonScore(MapVivant mapVivants, MapEnvironnement grid, ScoreDeplacement calculerScore) {
         int[] bestDirection = null;
         double bestScore = Double.NEGATIVE_INFINITY;
 
@@ -370,8 +442,8 @@ public abstract class EtreVivant implements IDeplacement {
             int newRow = getRow() + direction[0];
             int newCol = getCol() + direction[1];
 
-            if (mapVivants.isWithinBounds(newRow, newCol) && !grid.getCell(newRow, newCol).isObstacle() && mapVivants.getEtreVivant(newRow, newCol) == null) {
-                double score = calculerScore.apply(newRow, newCol);
+            if (mapVivants.isWithinBounds(newRow, newCol) && !grid.isObstacle(newRow, newCol) && mapVivants.getEtreVivant(newRow, newCol) == null) {
+                double score = calculerScore.score(newRow, newCol);
                 if (score > bestScore) {
                     bestScore = score;
                     bestDirection = direction;
@@ -396,8 +468,6 @@ public abstract class EtreVivant implements IDeplacement {
      */
     @Override
     public int[] mouvementCirculaire(MapVivant mapVivants, MapEnvironnement grid, int centralRow, int centralCol) {
-        Random random = new Random();
-
         int dRow = getRow() - centralRow;
         int dCol = getCol() - centralCol;
         int distance = dRow * dRow + dCol * dCol;
@@ -446,19 +516,17 @@ public abstract class EtreVivant implements IDeplacement {
      */
     @Override
     public int[] rechercheActive(MapVivant mapVivants, MapEnvironnement grid) {
-        Random random = new Random();
-
         if (this.stepsCurrentDir <= 0) {
             setRandomDirection();
             this.stepsCurrentDir = random.nextInt(6) + 4; // Entre 4 et 8 pas
         }
 
-        int newRow = getRow() + directionRow;
-        int newCol = getCol() + directionCol;
+        int newRow = getRow() + directionRecherche[0];
+        int newCol = getCol() + directionRecherche[1];
 
         if (deplacerVers(newRow, newCol, mapVivants, grid)) {
             stepsCurrentDir--;
-            return new int[]{directionRow, directionCol};
+            return directionRecherche; // Tableau partagé : ne doit pas être modifié
         }
 
         setRandomDirection();
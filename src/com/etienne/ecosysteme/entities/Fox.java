@@ -1,10 +1,10 @@
 package com.etienne.ecosysteme.entities;
 
 import com.etienne.ecosysteme.environment.MapEnvironnement;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
+import com.etienne.ecosysteme.environment.Texture;
+import com.etienne.ecosysteme.environment.TextureAtlas;
 
-import java.util.Objects;
+import java.util.SplittableRandom;
 
 /**
  * Classe représentant un renard (Fox) dans l'écosystème.
@@ -13,39 +13,40 @@ import java.util.Objects;
  */
 public class Fox extends Animaux {
 
-    // Image statique utilisée pour représenter visuellement le renard.
-    private static final Image FOX_IMAGE = new Image(
-            Objects.requireNonNull(
-                    Fox.class.getResourceAsStream("/ressources/sprites/animals/fox.png")
-            )
-    );
+    // Chemin de l'image utilisée pour représenter visuellement le renard (rangée dans l'atlas, voir TextureAtlas).
+    private static final String FOX_IMAGE_PATH = "/ressources/sprites/animals/fox.png";
+
+    // Texture de l'image, recherchée dans l'atlas au premier affichage.
+    private static Texture sprite;
 
     /**
      * Constructeur de la classe Fox.
      *
      * @param row La ligne initiale où le renard est placé sur la carte.
      * @param col La colonne initiale où le renard est placé sur la carte.
+     * @param random Le générateur aléatoire du renard.
      */
-    public Fox(int row, int col) {
+    public Fox(int row, int col, SplittableRandom random) {
         // Appelle le constructeur parent avec les valeurs spécifiques au renard.
         // Paramètres : position (row, col), points de vie (10), vitesse (1),
         // vision (5), et le type d'animal (FOX).
-        super(row, col, 10, 1, 5, Type.FOX);
+        super(row, col, 10, 1, 5, Type.FOX, random);
     }
 
     /**
-     * Retourne une représentation visuelle (sprite) du renard.
+     * Retourne la texture utilisée pour représenter visuellement le renard.
      *
-     * @param tileSize La taille en pixels d'une case sur la carte.
-     * @return Un objet ImageView représentant le sprite du renard.
+     * @return La texture du renard.
      */
     @Override
-    public ImageView getSprite(int tileSize) {
-        // Crée une ImageView pour afficher le sprite du renard.
-        ImageView imageView = new ImageView(FOX_IMAGE);
-        imageView.setFitWidth(tileSize);  // Définit la largeur de l'image.
-        imageView.setFitHeight(tileSize); // Définit la hauteur de l'image.
-        return imageView;
+    public Texture getCurrentSprite() {
+        // Course sans conséquence : la texture est immuable et toujours la même
+        Texture resultat = sprite;
+        if (resultat == null) {
+            resultat = TextureAtlas.get(FOX_IMAGE_PATH);
+            sprite = resultat;
+        }
+        return resultat;
     }
 
     /**
@@ -1,14 +1,12 @@
 package com.etienne.ecosysteme.entities;
 
 import com.etienne.ecosysteme.environment.MapEnvironnement;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
+import com.etienne.ecosysteme.environment.Texture;
 
 import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
-import java.util.Random;
-import java.util.function.BiFunction;
+import java.util.SplittableRandom;
+import java.util.function.BiPredicate;
 
 /**
  * Classe représentant un humain (Humain) dans l'écosystème.
@@ -24,56 +22,47 @@ public class Humain extends EtreVivant {
     // Nombre total de styles disponibles pour les humains (doit correspondre avec SpriteManager).
     private static final int NUM_HUMAN_STYLES = 4;
 
+    // Filtre de perception des menaces (zombies uniquement).
+    private static final BiPredicate<EtreVivant, EtreVivant> ZOMBIES = (humain, vivant) -> vivant instanceof Zombie;
+
     // Index du style de l'humain (déterminé aléatoirement).
     private final int styleIndex;
 
+    // Identifiant des sprites du style (voir SpriteManager).
+    private final int spriteHandle;
+
     /**
      * Constructeur de la classe Humain.
      * Initialise la position, la vitesse et le style visuel de l'humain.
      *
      * @param row La ligne initiale où l'humain est placé sur la carte.
      * @param col La colonne initiale où l'humain est placé sur la carte.
+     * @param random Le générateur aléatoire de l'humain.
      */
-    public Humain(int row, int col) {
-        super(row, col, getRandomVitesse(), 1, 12); // Vitesse, points de vie, vision range
-        Random random = new Random();
+    public Humain(int row, int col, SplittableRandom random) {
+        super(row, col, getRandomVitesse(random), 1, 12, random); // Vitesse, points de vie, vision range
         this.styleIndex = random.nextInt(NUM_HUMAN_STYLES); // Sélectionne un style aléatoire.
+        this.spriteHandle = SpriteManager.getInstance().getHandle("human" + styleIndex);
     }
 
     /**
      * Génère une vitesse aléatoire pour un humain.
      *
+     * @param random Le générateur aléatoire de l'humain.
      * @return Une vitesse entre MIN_VITESSE et MAX_VITESSE.
      */
-    private static int getRandomVitesse() {
-        Random random = new Random();
+    private static int getRandomVitesse(SplittableRandom random) {
         return random.nextInt((MAX_VITESSE - MIN_VITESSE) + 1) + MIN_VITESSE;
     }
 
-    /**
-     * Récupère le sprite visuel actuel de l'humain.
-     *
-     * @param tileSize La taille des cases sur la carte.
-     * @return Une ImageView représentant l'humain.
-     */
-    @Override
-    public ImageView getSprite(int tileSize) {
-        Image sprite = getCurrentSprite();
-        ImageView imageView = new ImageView(sprite);
-        imageView.setFitWidth(tileSize);
-        imageView.setFitHeight(tileSize);
-        return imageView;
-    }
-
     /**
      * Récupère le sprite actuel en fonction de la direction et de l'animation.
      *
-     * @return L'image actuelle représentant l'humain.
+     * @return La texture actuelle représentant l'humain.
      */
-    private Image getCurrentSprite() {
-        Image[] directionSprites = SpriteManager.getInstance()
-                .getSprites(String.format("human%d", styleIndex), getLastDirection());
-        return directionSprites[getAnimationFrame()];
+    @Override
+    public Texture getCurrentSprite() {
+        return SpriteManager.getInstance().getSprite(spriteHandle, getLastDirection(), getAnimationFrame());
     }
 
     /**
@@ -88,17 +77,10 @@ public class Humain extends EtreVivant {
      */
     @Override
     public void gen_deplacement(MapVivant mapVivants, MapEnvironnement grid, int row, int col) {
-        Random random = new Random();
+        // Perçoit les menaces visibles (zombies uniquement).
+        Perception perception = percevoir(mapVivants, grid, getVisionRange(), -1, ZOMBIES, null);
 
-        // Récupère les entités vivantes dans le rayon de vision.
-        List<EtreVivant> vivantsProches = getEtreVivantsDansRayon(mapVivants, grid, getVisionRange(), -1);
-
-        // Filtre les menaces (zombies uniquement).
-        List<EtreVivant> menaces = vivantsProches.stream()
-                .filter(vivant -> vivant instanceof Zombie)
-                .toList();
-
-        if (menaces.isEmpty()) {
+        if (perception.cibles.estVide()) {
             // Mouvement erratique avec une faible probabilité de bouger.
             if (random.nextDouble() >= 0.1) {
                 return; // Pas de déplacement.
@@ -110,33 +92,13 @@ public class Humain extends EtreVivant {
             return;
         }
 
-        // Se déplace pour maximiser la distance avec les menaces.
-        int[] direction = seDeplacerSelonScore(mapVivants, grid, calculerScoreHumain(menaces));
+        // Se déplace pour maximiser la distance avec les menaces (somme des distances au carré).
+        int[] direction = seDeplacerSelonScore(mapVivants, grid, perception.eloignement());
         if (direction != null) {
             updateAnimation(parseDirection(direction));
         }
     }
 
-    /**
-     * Calcule un score pour chaque position potentielle, maximisant
-     * la distance par rapport aux menaces.
-     *
-     * @param menaces Liste des entités menaçantes (zombies).
-     * @return Une BiFunction pour calculer le score d'une position donnée.
-     */
-    private BiFunction<Integer, Integer, Double> calculerScoreHumain(List<EtreVivant> menaces) {
-        return (newRow, newCol) -> {
-            double score = 0;
-
-            // Maximiser la distance par rapport à chaque menace.
-            for (EtreVivant menace : menaces) {
-                double distance = Math.pow(newCol - menace.getCol(), 2) + Math.pow(newRow - menace.getRow(), 2);
-                score += distance;
-            }
-            return score;
-        };
-    }
-
     /**
      * Facteur de vitesse de l'humain la nuit (ralenti).
      *
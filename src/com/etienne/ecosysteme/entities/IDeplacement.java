@@ -2,8 +2,6 @@ package com.etienne.ecosysteme.entities;
 
 import com.etienne.ecosysteme.environment.MapEnvironnement;
 
-import java.util.function.BiFunction;
-
 /**
  * Interface définissant les méthodes pour les déplacements des entités dans l'écosystème.
  * Permet d'unifier et de structurer les comportements de déplacement dans différents contextes.
@@ -54,7 +52,7 @@ public interface IDeplacement {
      * @param calculerScore Une fonction qui calcule un score pour une position donnée (ligne, colonne).
      * @return Un tableau contenant les coordonnées [nouvelleLigne, nouvelleColonne].
      */
-    int[] seDeplacerSelonScore(MapVivant mapVivants, MapEnvironnement grid, BiFunction<Integer, Integer, Double> calculerScore);
+    int[] seDeplacerSelonScore(MapVivant mapVivants, MapEnvironnement grid, ScoreDeplacement calculerScore);
 
     /**
      * Génère un mouvement circulaire erratique autour d'un point central.
@@ -3,6 +3,7 @@ package com.etienne.ecosysteme.entities;
 import com.etienne.ecosysteme.core.DayNightCycleImpl;
 import com.etienne.ecosysteme.environment.MapEnvironnement;
 import java.io.IOException;
+import java.util.SplittableRandom;
 
 public interface IMapVivant {
 
@@ -14,9 +15,10 @@ public interface IMapVivant {
      * @param nbZombies Nombre de zombies à ajouter.
      * @param nbAnimaux Nombre d'animaux à ajouter.
      * @param map Carte de l'environnement.
+     * @param random Générateur aléatoire de la simulation, dont sont issus ceux des entités.
      * @throws IOException En cas d'erreur lors de la lecture du fichier.
      */
-    void populate(String filePath, int nbHumains, int nbZombies, int nbAnimaux, MapEnvironnement map) throws IOException;
+    void populate(String filePath, int nbHumains, int nbZombies, int nbAnimaux, MapEnvironnement map, SplittableRandom random) throws IOException;
 
     /**
      * Met à jour les déplacements et interactions des entités sur la carte.
@@ -53,6 +55,17 @@ public interface IMapVivant {
      */
     void setEtreVivant(int row, int col, EtreVivant etre);
 
+    /**
+     * Déplace une entité vivante d'une case vers une case libre.
+     *
+     * @param etre L'entité vivante à déplacer.
+     * @param fromRow Ligne de départ.
+     * @param fromCol Colonne de départ.
+     * @param toRow Ligne d'arrivée.
+     * @param toCol Colonne d'arrivée.
+     */
+    void deplacerEtreVivant(EtreVivant etre, int fromRow, int fromCol, int toRow, int toCol);
+
     /**
      * Obtient le nombre de lignes de la carte.
      *
@@ -1,6 +1,6 @@
 package com.etienne.ecosysteme.entities;
 
-import javafx.scene.image.Image;
+import com.etienne.ecosysteme.environment.Texture;
 
 public interface ISpriteManager {
     /**
@@ -9,12 +9,21 @@ public interface ISpriteManager {
     void loadAllSprites();
 
     /**
-     * Récupère-les sprites pour un type et une direction donnée.
+     * Retourne l'identifiant d'un type de sprite, à garder par l'entité après sa construction.
      *
-     * @param type      Le type d'entité (par exemple, "human", "zombie").
+     * @param type Le type d'entité (par exemple, "human0", "bear").
+     * @return L'identifiant du type.
+     */
+    int getHandle(String type);
+
+    /**
+     * Récupère le sprite d'un type pour une direction et une frame d'animation, sans recherche par chaîne.
+     *
+     * @param handle    L'identifiant du type (voir {@link #getHandle(String)}).
      * @param direction La direction de l'entité.
-     * @return Un tableau d'images représentant les sprites pour cette direction.
+     * @param frame     La frame d'animation.
+     * @return La texture correspondante.
      */
-    Image[] getSprites(String type, Animaux.Direction direction);
+    Texture getSprite(int handle, Animaux.Direction direction, int frame);
 
 }
@@ -1,9 +1,27 @@
 package com.etienne.ecosysteme.entities;
 
 import com.etienne.ecosysteme.core.DayNightCycleImpl;
+import com.etienne.ecosysteme.environment.Chunk;
+import com.etienne.ecosysteme.environment.IPrecipitation;
 import com.etienne.ecosysteme.environment.MapEnvironnement;
+import com.etienne.ecosysteme.environment.Texture;
+import com.etienne.ecosysteme.environment.ZoneAffichage;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * Classe représentant la carte des êtres vivants (MapVivant) dans l'écosystème.
@@ -11,11 +29,41 @@ import java.io.IOException;
  */
 public class MapVivant implements IMapVivant {
 
-    // Matrice des êtres vivants sur la carte.
-    private EtreVivant[][] mapVivants;
+    // Êtres vivants sur la carte, par chunk de Chunk.TAILLE x Chunk.TAILLE cases.
+    // Un chunk n'est alloué que s'il contient au moins un être vivant (les régions vides n'occupent pas de mémoire).
+    private final EtreVivant[][] chunks;
+    private final int chunkCols;
     private int rows; // Nombre de lignes de la carte.
     private int cols; // Nombre de colonnes de la carte.
 
+    // Nombre d'êtres vivants par chunk (modifié de manière atomique : deux bandes de la mise à jour
+    // parallèle peuvent écrire dans le même chunk, sur des cases différentes).
+    private final AtomicIntegerArray occupation;
+
+    // Index spatial utilisé pour les requêtes de perception.
+    private final SpatialIndex spatialIndex;
+
+    // Registres des êtres vivants : une liste dense par type concret (Humain, Zombie, Wolf, ...).
+    // Les types sont parcourus dans l'ordre de leur premier enregistrement.
+    // Les modifications sont synchronisées (naissances et morts pendant la mise à jour parallèle).
+    private final Map<Class<? extends EtreVivant>, List<EtreVivant>> registres = new LinkedHashMap<>();
+    private int nbEtreVivants = 0;
+
+    // Tampon réutilisé pour figer la liste des êtres vivants au début de chaque tick.
+    private EtreVivant[] tamponTick = new EtreVivant[0];
+
+    // Mise à jour parallèle par bandes de lignes (null : mise à jour séquentielle).
+    private ForkJoinPool pool;
+
+    // Clés de tri (position, indice) réutilisées par la mise à jour parallèle.
+    private long[] clesTick = new long[0];
+
+    // Cycle jour/nuit du tick en cours, lu une fois par tick (null avant la première mise à jour).
+    private DayNightCycleImpl.Cycle cycle;
+
+    // Précipitations qui ralentissent les êtres vivants (null : aucune).
+    private IPrecipitation precipitation;
+
     /**
      * Constructeur de la classe MapVivant.
      *
@@ -25,7 +73,10 @@ public class MapVivant implements IMapVivant {
     public MapVivant(int rows, int cols) {
         this.rows = rows;
         this.cols = cols;
-        mapVivants = new EtreVivant[rows][cols];
+        chunkCols = Chunk.nombreChunks(cols);
+        chunks = new EtreVivant[Chunk.nombreChunks(rows) * chunkCols][];
+        occupation = new AtomicIntegerArray(chunks.length);
+        spatialIndex = new SpatialIndex(rows, cols);
     }
 
     /**
@@ -36,59 +87,389 @@ public class MapVivant implements IMapVivant {
      * @param nbZombies  Nombre de zombies à ajouter.
      * @param nbAnimaux  Nombre d'animaux à ajouter.
      * @param map        Carte de l'environnement.
+     * @param random     Générateur aléatoire de la simulation.
      * @throws IOException En cas d'erreur de lecture du fichier.
      */
     @Override
-    public void populate(String filePath, int nbHumains, int nbZombies, int nbAnimaux, MapEnvironnement map) throws IOException {
+    public void populate(String filePath, int nbHumains, int nbZombies, int nbAnimaux, MapEnvironnement map, SplittableRandom random) throws IOException {
         // Chargement des êtres vivants depuis un fichier.
-        PopulateUtil.loadFromFile(filePath, map, this);
+        PopulateUtil.loadFromFile(filePath, map, this, random);
 
         // Ajout aléatoire d'autres entités.
-        PopulateUtil.populateRandomly(this, map, nbHumains, nbZombies, nbAnimaux);
+        PopulateUtil.populateRandomly(this, map, nbHumains, nbZombies, nbAnimaux, random);
     }
 
     /**
      * Met à jour les positions et les interactions des êtres vivants sur la carte.
      *
+     * <p>Seuls les registres d'êtres vivants sont parcourus (jamais la grille entière).
+     * L'ordre d'un tick est le suivant :</p>
+     * <ul>
+     *   <li>la liste des êtres vivants est figée au début du tick, type par type ;</li>
+     *   <li>chaque être vivant se déplace puis interagit avec ses voisins, s'il est encore en vie ;</li>
+     *   <li>un être vivant mort pendant le tick (mangé, transformé, affamé) n'agit plus ;</li>
+     *   <li>un être vivant né pendant le tick (humain transformé en zombie) n'agit qu'à partir du tick suivant.</li>
+     * </ul>
+     *
+     * <p>Le cycle jour/nuit est lu une seule fois par tick. La vitesse des êtres vivants n'est recalculée
+     * que lorsqu'il change (ou lorsque leur vitesse de base change). Le ralentissement dû aux précipitations
+     * est lu par chaque être vivant lors de son déplacement ({@link #getRalentissement(int, int)}).</p>
+     *
+     * <p>Si un pool de threads a été fourni ({@link #setParallelisme(ForkJoinPool)}),
+     * la mise à jour est faite par bandes de lignes en parallèle.</p>
+     *
      * @param grid           Carte de l'environnement.
      * @param dayNightCycle  Cycle jour/nuit en cours.
      */
     @Override
     public void update(MapEnvironnement grid, DayNightCycleImpl dayNightCycle) {
+        int nbVivants = figerEtreVivants();
 
-        // Création d'une copie temporaire de la carte pour éviter les conflits.
-        EtreVivant[][] tempMap = new EtreVivant[grid.getRows()][grid.getCols()];
-        for (int row = 0; row < grid.getRows(); row++) {
-            if (grid.getCols() >= 0) {
-                System.arraycopy(mapVivants[row], 0, tempMap[row], 0, grid.getCols());
+        // Changement de cycle : la vitesse de chaque être vivant est ajustée une fois
+        DayNightCycleImpl.Cycle courant = dayNightCycle.getCurrentCycle();
+        if (courant != cycle) {
+            cycle = courant;
+            for (int i = 0; i < nbVivants; i++) {
+                tamponTick[i].adjustVitesse(cycle);
             }
         }
 
-        // Parcourt chaque cellule de la carte.
-        for (int row = 0; row < grid.getRows(); row++) {
-            for (int col = 0; col < grid.getCols(); col++) {
-                EtreVivant vivant = tempMap[row][col];
+        if (pool != null) {
+            updateParallele(grid, nbVivants);
+        } else {
+            for (int i = 0; i < nbVivants; i++) {
+                actualiser(tamponTick[i], grid);
+            }
+        }
 
-                // Ignore les cases vides.
-                if (vivant == null) {
+        // Libère les références du tampon et les chunks devenus vides.
+        Arrays.fill(tamponTick, 0, nbVivants, null);
+        libererChunksVides();
+    }
+
+    /**
+     * Libère les chunks qui ne contiennent plus aucun être vivant.
+     * Appelée entre deux ticks : aucun thread de la mise à jour parallèle ne lit alors les chunks.
+     */
+    private void libererChunksVides() {
+        for (int i = 0; i < chunks.length; i++) {
+            if (chunks[i] != null && occupation.get(i) == 0) {
+                chunks[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Marque comme utilisés les chunks de terrain proches des êtres vivants, pour qu'ils restent chargés
+     * (voir {@link MapEnvironnement#libererChunks()}).
+     *
+     * @param map Carte de l'environnement.
+     */
+    public void marquerChunksUtilises(MapEnvironnement map) {
+        for (List<EtreVivant> registre : registres.values()) {
+            for (int i = 0; i < registre.size(); i++) {
+                EtreVivant vivant = registre.get(i);
+                map.marquerUtilise(vivant.getRow(), vivant.getCol());
+            }
+        }
+    }
+
+    /**
+     * Retourne les sprites actuels de tous les êtres vivants de la carte, sans doublon
+     * (pour décoder à l'avance les pages de l'atlas qui les contiennent).
+     * Ne doit pas être appelée pendant un tick.
+     *
+     * @return Les sprites des êtres vivants.
+     */
+    public Set<Texture> getSprites() {
+        Set<Texture> sprites = new LinkedHashSet<>();
+        for (List<EtreVivant> registre : registres.values()) {
+            for (int i = 0; i < registre.size(); i++) {
+                sprites.add(registre.get(i).getCurrentSprite());
+            }
+        }
+        return sprites;
+    }
+
+    /**
+     * Met à jour un être vivant : déplacement puis interactions avec ses voisins.
+     *
+     * @param vivant         L'être vivant à mettre à jour.
+     * @param grid           Carte de l'environnement.
+     */
+    private void actualiser(EtreVivant vivant, MapEnvironnement grid) {
+        // Ignore les êtres vivants morts depuis le début du tick.
+        if (!estPresent(vivant)) {
+            return;
+        }
+
+        // Met à jour le déplacement de l'être vivant.
+        vivant.updateDeplacement(this, grid, vivant.getRow(), vivant.getCol());
+
+        // L'être vivant a pu mourir pendant son déplacement (faim).
+        if (!estPresent(vivant)) {
+            return;
+        }
+
+        // Gestion des interactions spécifiques :
+        // - Les zombies transforment les humains proches.
+        if (vivant instanceof Zombie zombie) {
+            zombie.transformNearbyHumans(this);
+        }
+
+        // - Les loups mangent les lapins proches.
+        if (vivant instanceof Wolf wolf) {
+            wolf.transformNearByBunny(this);
+        }
+    }
+
+    /**
+     * Met à jour les êtres vivants en parallèle, par bandes horizontales de lignes.
+     *
+     * <p>Un être vivant ne se déplace que d'une case par tick et ne perçoit ou n'atteint ses voisins
+     * qu'à une distance bornée (sa vision, plus son déplacement et ses interactions). Les bandes sont
+     * plus hautes que deux fois cette portée : deux bandes paires (ou deux bandes impaires) ne lisent
+     * et n'écrivent donc jamais les mêmes cases, ni les mêmes cellules de l'index spatial.
+     * Les bandes paires sont traitées en parallèle, puis les bandes impaires.</p>
+     *
+     * <p>Chaque être vivant appartient à la bande de sa position au début du tick, et chaque bande
+     * traite ses êtres vivants par ligne puis par colonne : le résultat ne dépend pas de l'ordonnancement
+     * des threads. Les règles sont les mêmes qu'en séquentiel, seul l'ordre de traitement diffère.</p>
+     *
+     * @param grid           Carte de l'environnement.
+     * @param nbVivants      Nombre d'êtres vivants figés dans le tampon.
+     */
+    private void updateParallele(MapEnvironnement grid, int nbVivants) {
+        // Tri par position (ligne puis colonne), en gardant l'indice dans le tampon
+        if (clesTick.length < nbVivants) {
+            clesTick = new long[Math.max(nbVivants, clesTick.length * 2)];
+        }
+        int visionMax = 0;
+        for (int i = 0; i < nbVivants; i++) {
+            EtreVivant vivant = tamponTick[i];
+            clesTick[i] = (((long) vivant.getRow() * cols + vivant.getCol()) << 32) | i;
+            visionMax = Math.max(visionMax, vivant.getVisionRange());
+        }
+        Arrays.sort(clesTick, 0, nbVivants);
+
+        int hauteurBande = hauteurBande(visionMax);
+        int nbBandes = (rows + hauteurBande - 1) / hauteurBande;
+
+        // Début de chaque bande dans l'ordre trié
+        int[] debuts = new int[nbBandes + 1];
+        int bande = 0;
+        for (int i = 0; i < nbVivants; i++) {
+            int row = (int) ((clesTick[i] >>> 32) / cols);
+            while (bande < row / hauteurBande) {
+                debuts[++bande] = i;
+            }
+        }
+        while (bande < nbBandes) {
+            debuts[++bande] = nbVivants;
+        }
+
+        // Bandes paires, puis bandes impaires
+        for (int parite = 0; parite < 2; parite++) {
+            List<Callable<Void>> taches = new ArrayList<>();
+            for (int b = parite; b < nbBandes; b += 2) {
+                int debut = debuts[b];
+                int fin = debuts[b + 1];
+                if (debut == fin) {
                     continue;
                 }
+                taches.add(() -> {
+                    for (int i = debut; i < fin; i++) {
+                        actualiser(tamponTick[(int) clesTick[i]], grid);
+                    }
+                    return null;
+                });
+            }
+            attendre(pool.invokeAll(taches));
+        }
+    }
+
+    /**
+     * Calcule la hauteur des bandes de la mise à jour parallèle.
+     * Elle couvre deux fois la portée maximale d'un être vivant (vision, déplacement et interaction),
+     * plus une cellule de l'index spatial de chaque côté, arrondie à un multiple de la taille des cellules.
+     *
+     * @param visionMax La plus grande portée de vision parmi les êtres vivants.
+     * @return La hauteur d'une bande (en lignes).
+     */
+    static int hauteurBande(int visionMax) {
+        int portee = visionMax + 2; // Un déplacement et une interaction au contact
+        int hauteur = 2 * portee + 2 * SpatialIndex.TAILLE_CELLULE;
+        return (hauteur + SpatialIndex.TAILLE_CELLULE - 1) / SpatialIndex.TAILLE_CELLULE * SpatialIndex.TAILLE_CELLULE;
+    }
+
+    /**
+     * Attend la fin des tâches d'une phase et propage leurs éventuelles exceptions.
+     *
+     * @param resultats Les résultats des tâches.
+     */
+    private static void attendre(List<Future<Void>> resultats) {
+        try {
+            for (Future<Void> resultat : resultats) {
+                resultat.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Mise à jour parallèle interrompue", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Erreur lors de la mise à jour parallèle", e.getCause());
+        }
+    }
 
-                // Met à jour le déplacement de l'être vivant.
-                vivant.updateDeplacement(this, grid, row, col, dayNightCycle);
+    /**
+     * Active ou désactive la mise à jour parallèle par bandes de lignes.
+     *
+     * @param pool Le pool de threads à utiliser, ou {@code null} pour une mise à jour séquentielle.
+     */
+    public void setParallelisme(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Définit les précipitations qui ralentissent les êtres vivants.
+     *
+     * @param precipitation Les précipitations, ou {@code null} pour aucune.
+     */
+    public void setPrecipitation(IPrecipitation precipitation) {
+        this.precipitation = precipitation;
+    }
 
-                // Gestion des interactions spécifiques :
-                // - Les zombies transforment les humains proches.
-                if (vivant instanceof Zombie zombie) {
-                    zombie.transformNearbyHumans(this);
+    /**
+     * Retourne le ralentissement dû aux précipitations à une position de la carte.
+     *
+     * @param row Ligne de la position.
+     * @param col Colonne de la position.
+     * @return Le ralentissement (en ticks, 0 sans précipitations).
+     */
+    public int getRalentissement(int row, int col) {
+        return precipitation == null ? 0 : precipitation.getRalentissement(row, col);
+    }
+
+    /**
+     * Construit un instantané immuable des êtres vivants d'une zone, pour l'affichage.
+     * Seules les cases de la zone sont parcourues, ligne par ligne : les êtres vivants sont obtenus
+     * déjà triés par position, quelle que soit la taille de la carte.
+     * Doit être appelé entre deux ticks, par le thread qui exécute la simulation.
+     *
+     * @param zone La zone affichée.
+     * @return L'instantané des êtres vivants de la zone, triés par position.
+     */
+    public MapVivantSnapshot snapshot(ZoneAffichage zone) {
+        int rowMin = Math.max(0, zone.getRowMin());
+        int colMin = Math.max(0, zone.getColMin());
+        int rowMax = Math.min(rows, zone.getRowMax());
+        int colMax = Math.min(cols, zone.getColMax());
+
+        // Premier passage : nombre d'êtres vivants de la zone
+        int nbVivants = 0;
+        for (int row = rowMin; row < rowMax; row++) {
+            for (int col = colMin; col < colMax; col++) {
+                if (getEtreVivant(row, col) != null) {
+                    nbVivants++;
                 }
+            }
+        }
 
-                // - Les loups mangent les lapins proches.
-                if (vivant instanceof Wolf wolf) {
-                    wolf.transformNearByBunny(this);
+        long[] positions = new long[nbVivants];
+        Texture[] sprites = new Texture[nbVivants];
+        float[] jauges = new float[nbVivants];
+        int i = 0;
+        for (int row = rowMin; row < rowMax; row++) {
+            for (int col = colMin; col < colMax; col++) {
+                EtreVivant vivant = getEtreVivant(row, col);
+                if (vivant == null) {
+                    continue;
                 }
+                positions[i] = (long) row * cols + col;
+                sprites[i] = vivant.getCurrentSprite();
+                jauges[i] = vivant instanceof Zombie
+                        ? (float) vivant.getNourriture() / Zombie.NOURRITURE_MAX
+                        : MapVivantSnapshot.SANS_JAUGE;
+                i++;
+            }
+        }
+        return new MapVivantSnapshot(cols, positions, sprites, jauges);
+    }
+
+    /**
+     * Copie le contenu des registres dans le tampon du tick, type par type.
+     *
+     * @return Le nombre d'êtres vivants figés.
+     */
+    private int figerEtreVivants() {
+        if (tamponTick.length < nbEtreVivants) {
+            tamponTick = new EtreVivant[Math.max(nbEtreVivants, tamponTick.length * 2)];
+        }
+        int n = 0;
+        for (List<EtreVivant> registre : registres.values()) {
+            for (int i = 0; i < registre.size(); i++) {
+                tamponTick[n++] = registre.get(i);
             }
         }
+        return n;
+    }
+
+    /**
+     * Vérifie qu'un être vivant occupe toujours sa case (c'est-à-dire qu'il est encore en vie).
+     *
+     * @param vivant L'être vivant à vérifier.
+     * @return {@code true} si l'être vivant est présent sur la carte.
+     */
+    private boolean estPresent(EtreVivant vivant) {
+        return getEtreVivant(vivant.getRow(), vivant.getCol()) == vivant;
+    }
+
+    /**
+     * Ajoute un être vivant au registre de son type.
+     *
+     * @param etre L'être vivant à enregistrer.
+     */
+    private synchronized void enregistrer(EtreVivant etre) {
+        List<EtreVivant> registre = registres.computeIfAbsent(etre.getClass(), type -> new ArrayList<>());
+        etre.indexRegistre = registre.size();
+        registre.add(etre);
+        nbEtreVivants++;
+    }
+
+    /**
+     * Retire un être vivant du registre de son type (en le remplaçant par le dernier élément).
+     *
+     * @param etre L'être vivant à retirer.
+     */
+    private synchronized void desenregistrer(EtreVivant etre) {
+        List<EtreVivant> registre = registres.get(etre.getClass());
+        int index = etre.indexRegistre;
+        EtreVivant dernier = registre.remove(registre.size() - 1);
+        if (dernier != etre) {
+            registre.set(index, dernier);
+            dernier.indexRegistre = index;
+        }
+        etre.indexRegistre = -1;
+        nbEtreVivants--;
+    }
+
+    /**
+     * Retourne les êtres vivants d'un type concret donné.
+     *
+     * @param type Le type concret recherché (par exemple {@code Zombie.class}).
+     * @return Une vue non modifiable du registre de ce type (éventuellement vide).
+     */
+    public List<EtreVivant> getEtreVivants(Class<? extends EtreVivant> type) {
+        List<EtreVivant> registre = registres.get(type);
+        return registre == null ? List.of() : Collections.unmodifiableList(registre);
+    }
+
+    /**
+     * Retourne le nombre total d'êtres vivants sur la carte.
+     *
+     * @return Le nombre d'êtres vivants.
+     */
+    public int getNombreEtreVivants() {
+        return nbEtreVivants;
     }
 
     /**
@@ -112,7 +493,60 @@ public class MapVivant implements IMapVivant {
      */
     @Override
     public EtreVivant getEtreVivant(int row, int col) {
-        return mapVivants[row][col];
+        EtreVivant[] chunk = chunks[indiceChunk(row, col)];
+        return chunk == null ? null : chunk[Chunk.indiceDansChunk(row, col)];
+    }
+
+    /**
+     * Calcule l'indice du chunk contenant une case.
+     *
+     * @param row Ligne de la case.
+     * @param col Colonne de la case.
+     * @return L'indice du chunk.
+     */
+    private int indiceChunk(int row, int col) {
+        return (row >> Chunk.DECALAGE) * chunkCols + (col >> Chunk.DECALAGE);
+    }
+
+    /**
+     * Écrit une case de la carte, en allouant son chunk si nécessaire, et tient à jour l'occupation du chunk.
+     *
+     * @param row  Ligne de la case.
+     * @param col  Colonne de la case.
+     * @param etre L'être vivant à placer (ou {@code null} pour libérer la case).
+     */
+    private void ecrire(int row, int col, EtreVivant etre) {
+        int indice = indiceChunk(row, col);
+        EtreVivant[] chunk = chunks[indice];
+        if (chunk == null) {
+            if (etre == null) {
+                return;
+            }
+            chunk = allouerChunk(indice);
+        }
+        int position = Chunk.indiceDansChunk(row, col);
+        EtreVivant ancien = chunk[position];
+        chunk[position] = etre;
+        if (ancien == null && etre != null) {
+            occupation.incrementAndGet(indice);
+        } else if (ancien != null && etre == null) {
+            occupation.decrementAndGet(indice);
+        }
+    }
+
+    /**
+     * Alloue un chunk vide (ou retourne celui alloué entre-temps par un autre thread).
+     *
+     * @param indice L'indice du chunk.
+     * @return Le chunk.
+     */
+    private synchronized EtreVivant[] allouerChunk(int indice) {
+        EtreVivant[] chunk = chunks[indice];
+        if (chunk == null) {
+            chunk = new EtreVivant[Chunk.TAILLE * Chunk.TAILLE];
+            chunks[indice] = chunk;
+        }
+        return chunk;
     }
 
     /**
@@ -124,7 +558,65 @@ public class MapVivant implements IMapVivant {
      */
     @Override
     public void setEtreVivant(int row, int col, EtreVivant etre) {
-        mapVivants[row][col] = etre;
+        EtreVivant ancien = getEtreVivant(row, col);
+        if (ancien == etre) {
+            return;
+        }
+
+        // Met à jour l'index spatial et les registres de manière incrémentale.
+        if (ancien != null) {
+            spatialIndex.retirer(ancien, row, col);
+            desenregistrer(ancien);
+        }
+        ecrire(row, col, etre);
+        if (etre != null) {
+            spatialIndex.ajouter(etre, row, col);
+            enregistrer(etre);
+
+            // Un être vivant placé en cours de simulation prend la vitesse du cycle en cours
+            if (cycle != null) {
+                etre.adjustVitesse(cycle);
+            }
+        }
+    }
+
+    /**
+     * Déplace un être vivant d'une case vers une autre case.
+     * La case d'arrivée doit être libre.
+     *
+     * @param etre    L'être vivant à déplacer.
+     * @param fromRow Ligne de départ.
+     * @param fromCol Colonne de départ.
+     * @param toRow   Ligne d'arrivée.
+     * @param toCol   Colonne d'arrivée.
+     */
+    @Override
+    public void deplacerEtreVivant(EtreVivant etre, int fromRow, int fromCol, int toRow, int toCol) {
+        if (getEtreVivant(fromRow, fromCol) != etre) {
+            // L'être vivant n'occupe plus sa case de départ : simple placement.
+            setEtreVivant(toRow, toCol, etre);
+            return;
+        }
+        int indice = indiceChunk(fromRow, fromCol);
+        if (indice == indiceChunk(toRow, toCol)) {
+            // Déplacement dans le même chunk : l'occupation ne change pas.
+            EtreVivant[] chunk = chunks[indice];
+            chunk[Chunk.indiceDansChunk(fromRow, fromCol)] = null;
+            chunk[Chunk.indiceDansChunk(toRow, toCol)] = etre;
+        } else {
+            ecrire(fromRow, fromCol, null);
+            ecrire(toRow, toCol, etre);
+        }
+        spatialIndex.deplacer(etre, fromRow, fromCol, toRow, toCol);
+    }
+
+    /**
+     * Retourne l'index spatial des êtres vivants de la carte.
+     *
+     * @return L'index spatial.
+     */
+    public SpatialIndex getSpatialIndex() {
+        return spatialIndex;
     }
 
     /**
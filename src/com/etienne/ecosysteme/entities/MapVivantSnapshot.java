@@ -0,0 +1,115 @@
+package com.etienne.ecosysteme.entities;
+
+import com.etienne.ecosysteme.environment.Texture;
+
+/**
+ * Instantané immuable des êtres vivants de la carte, destiné à l'affichage.
+ *
+ * <p>Il est construit par le thread de simulation à la fin d'un tick ({@link MapVivant#snapshot})
+ * puis lu par le thread JavaFX, sans jamais accéder aux êtres vivants eux-mêmes. Il ne contient
+ * que les êtres vivants de la zone affichée, et non ceux de toute la carte.
+ * Les êtres vivants y sont triés par ligne puis par colonne, ce qui permet de retrouver
+ * ceux d'une portion de ligne par recherche dichotomique.</p>
+ */
+public final class MapVivantSnapshot {
+
+    // Instantané sans aucun être vivant
+    public static final MapVivantSnapshot VIDE = new MapVivantSnapshot(1, new long[0], new Texture[0], new float[0]);
+
+    // Valeur de jauge pour les êtres vivants qui n'en affichent pas
+    public static final float SANS_JAUGE = -1f;
+
+    // Nombre de colonnes de la carte
+    private final int cols;
+
+    // Position (row * cols + col) de chaque être vivant, par ordre croissant
+    private final long[] positions;
+
+    // Sprite de chaque être vivant au moment de l'instantané
+    private final Texture[] sprites;
+
+    // Remplissage de la jauge de nourriture (entre 0 et 1), ou SANS_JAUGE
+    private final float[] jauges;
+
+    /**
+     * Constructeur de l'instantané. Les tableaux ne sont pas copiés et ne doivent plus être modifiés.
+     *
+     * @param cols      Nombre de colonnes de la carte.
+     * @param positions Positions triées des êtres vivants.
+     * @param sprites   Sprites des êtres vivants.
+     * @param jauges    Jauges de nourriture des êtres vivants.
+     */
+    MapVivantSnapshot(int cols, long[] positions, Texture[] sprites, float[] jauges) {
+        this.cols = cols;
+        this.positions = positions;
+        this.sprites = sprites;
+        this.jauges = jauges;
+    }
+
+    /**
+     * Retourne l'indice du premier être vivant situé sur la ligne {@code row},
+     * à partir de la colonne {@code col} (ou après).
+     *
+     * @param row Ligne recherchée.
+     * @param col Première colonne recherchée.
+     * @return L'indice du premier être vivant à la position (row, col) ou après.
+     */
+    public int premierIndice(int row, int col) {
+        long cle = (long) row * cols + col;
+        int bas = 0;
+        int haut = positions.length;
+        while (bas < haut) {
+            int milieu = (bas + haut) >>> 1;
+            if (positions[milieu] < cle) {
+                bas = milieu + 1;
+            } else {
+                haut = milieu;
+            }
+        }
+        return bas;
+    }
+
+    /**
+     * Retourne le nombre d'êtres vivants de l'instantané.
+     * @return Nombre d'êtres vivants.
+     */
+    public int getTaille() {
+        return positions.length;
+    }
+
+    /**
+     * Retourne la ligne de l'être vivant d'indice i.
+     * @param i Indice de l'être vivant.
+     * @return Ligne de l'être vivant.
+     */
+    public int getRow(int i) {
+        return (int) (positions[i] / cols);
+    }
+
+    /**
+     * Retourne la colonne de l'être vivant d'indice i.
+     * @param i Indice de l'être vivant.
+     * @return Colonne de l'être vivant.
+     */
+    public int getCol(int i) {
+        return (int) (positions[i] % cols);
+    }
+
+    /**
+     * Retourne le sprite de l'être vivant d'indice i.
+     * @param i Indice de l'être vivant.
+     * @return Sprite de l'être vivant.
+     */
+    public Texture getSprite(int i) {
+        return sprites[i];
+    }
+
+    /**
+     * Retourne le remplissage de la jauge de nourriture de l'être vivant d'indice i.
+     * @param i Indice de l'être vivant.
+     * @return Remplissage entre 0 et 1, ou {@link #SANS_JAUGE}.
+     */
+    public float getJauge(int i) {
+        return jauges[i];
+    }
+}
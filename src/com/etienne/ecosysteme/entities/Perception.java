@@ -0,0 +1,74 @@
+package com.etienne.ecosysteme.entities;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tampons de perception d'un thread de simulation, réutilisés par chaque être vivant qui se déplace
+ * (voir {@link EtreVivant#percevoir}) : aucune liste ni aucun objet n'est alloué à chaque déplacement.
+ *
+ * <p>Une perception range les positions de deux catégories d'êtres vivants visibles : les cibles
+ * (menaces à fuir ou proies à poursuivre) et les voisins (par exemple les congénères). Les fonctions
+ * de score sur ces positions sont créées une seule fois ; leur résultat n'est valable que jusqu'à
+ * la perception suivante du même thread.</p>
+ *
+ * <p>Chaque thread a ses propres tampons : la mise à jour parallèle n'a pas besoin de synchronisation.</p>
+ */
+final class Perception {
+
+    // Tampons de chaque thread
+    private static final ThreadLocal<Perception> TAMPONS = ThreadLocal.withInitial(Perception::new);
+
+    // Êtres vivants renvoyés par l'index spatial, avant le filtrage
+    final List<EtreVivant> candidats = new ArrayList<>();
+
+    // Positions perçues
+    final PositionsPercues cibles = new PositionsPercues();
+    final PositionsPercues voisins = new PositionsPercues();
+
+    // Poids des cibles et des voisins pour le score d'attraction
+    private double coefficientCibles;
+    private double coefficientVoisins;
+
+    // Fonctions de score, créées une fois par thread
+    private final ScoreDeplacement eloignement = (row, col) -> cibles.sommeDistancesCarrees(row, col);
+    private final ScoreDeplacement attraction = (row, col) -> {
+        double score = 0;
+        score += cibles.attraction(row, col, coefficientCibles);
+        score += voisins.attraction(row, col, coefficientVoisins);
+        return score;
+    };
+
+    private Perception() {
+    }
+
+    /**
+     * Retourne les tampons de perception du thread courant.
+     * @return Les tampons.
+     */
+    static Perception get() {
+        return TAMPONS.get();
+    }
+
+    /**
+     * Retourne le score de fuite : somme des distances au carré aux cibles.
+     * @return La fonction de score.
+     */
+    ScoreDeplacement eloignement() {
+        return eloignement;
+    }
+
+    /**
+     * Retourne le score d'attraction : somme de {@code coefficient / (distance² + 1)} sur les cibles
+     * puis sur les voisins (un coefficient négatif repousse).
+     *
+     * @param coefficientCibles  Poids de chaque cible.
+     * @param coefficientVoisins Poids de chaque voisin.
+     * @return La fonction de score.
+     */
+    ScoreDeplacement attraction(double coefficientCibles, double coefficientVoisins) {
+        this.coefficientCibles = coefficientCibles;
+        this.coefficientVoisins = coefficientVoisins;
+        return attraction;
+    }
+}
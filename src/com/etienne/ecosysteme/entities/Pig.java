@@ -1,10 +1,10 @@
 package com.etienne.ecosysteme.entities;
 
 import com.etienne.ecosysteme.environment.MapEnvironnement;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
+import com.etienne.ecosysteme.environment.Texture;
+import com.etienne.ecosysteme.environment.TextureAtlas;
 
-import java.util.Objects;
+import java.util.SplittableRandom;
 
 /**
  * Classe représentant un cochon (Pig) dans l'écosystème.
@@ -13,39 +13,40 @@ import java.util.Objects;
  */
 public class Pig extends Animaux {
 
-    // Image statique utilisée pour représenter visuellement le cochon.
-    private static final Image PIG_IMAGE = new Image(
-            Objects.requireNonNull(
-                    Pig.class.getResourceAsStream("/ressources/sprites/animals/boar.png")
-            )
-    );
+    // Chemin de l'image utilisée pour représenter visuellement le cochon (rangée dans l'atlas, voir TextureAtlas).
+    private static final String PIG_IMAGE_PATH = "/ressources/sprites/animals/boar.png";
+
+    // Texture de l'image, recherchée dans l'atlas au premier affichage.
+    private static Texture sprite;
 
     /**
      * Constructeur de la classe Pig.
      *
      * @param row La ligne initiale où le cochon est placé sur la carte.
      * @param col La colonne initiale où le cochon est placé sur la carte.
+     * @param random Le générateur aléatoire du cochon.
      */
-    public Pig(int row, int col) {
+    public Pig(int row, int col, SplittableRandom random) {
         // Appelle le constructeur parent avec les valeurs spécifiques au cochon.
         // Paramètres : position (row, col), points de vie (10), vitesse (1),
         // vision (5), et le type d'animal (PIG).
-        super(row, col, 10, 1, 5, Type.PIG);
+        super(row, col, 10, 1, 5, Type.PIG, random);
     }
 
     /**
-     * Retourne une représentation visuelle (sprite) du cochon.
+     * Retourne la texture utilisée pour représenter visuellement le cochon.
      *
-     * @param tileSize La taille en pixels d'une case sur la carte.
-     * @return Un objet ImageView représentant le sprite du cochon.
+     * @return La texture du cochon.
      */
     @Override
-    public ImageView getSprite(int tileSize) {
-        // Crée une ImageView pour afficher le sprite du cochon.
-        ImageView imageView = new ImageView(PIG_IMAGE);
-        imageView.setFitWidth(tileSize);  // Définit la largeur de l'image.
-        imageView.setFitHeight(tileSize); // Définit la hauteur de l'image.
-        return imageView;
+    public Texture getCurrentSprite() {
+        // Course sans conséquence : la texture est immuable et toujours la même
+        Texture resultat = sprite;
+        if (resultat == null) {
+            resultat = TextureAtlas.get(PIG_IMAGE_PATH);
+            sprite = resultat;
+        }
+        return resultat;
     }
 
     /**
@@ -1,8 +1,7 @@
 package com.etienne.ecosysteme.entities;
 
 import com.etienne.ecosysteme.environment.MapEnvironnement;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
+import com.etienne.ecosysteme.environment.Texture;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
@@ -21,6 +20,7 @@ public class Player {
     // Pour l'animation de son déplacement, attention, doit correspondre avec SpriteManager
     private static final int NUM_PLAYER_STYLES = 1;
     private int styleIndex = 0;
+    private final int spriteHandle; // Identifiant des sprites du style (voir SpriteManager)
     private int animationFrame = 0;
     private EtreVivant.Direction lastDirection = EtreVivant.Direction.DOWN; // La direction du pelo
 
@@ -48,11 +48,12 @@ public class Player {
         this.mapEnvironnement = mapEnvironnement;
 
         // On vérifie que la position initiale est valide
-        if (mapEnvironnement.getCell(startRow, startCol).isObstacle()) {
+        if (mapEnvironnement.isObstacle(startRow, startCol)) {
             throw new IllegalArgumentException("Position initiale invalide : il y a un obstacle");
         }
         Random random = new Random();
         this.styleIndex = random.nextInt(NUM_PLAYER_STYLES);
+        this.spriteHandle = SpriteManager.getInstance().getHandle("player" + styleIndex);
 
     }
 
@@ -90,7 +91,7 @@ public class Player {
         // Position dans les limites de la carte
         if (newRow >= 0  && newRow < mapEnvironnement.getRows() && newCol >= 0  && newCol < mapEnvironnement.getCols()) {
             // Vérifier obstacle
-            if (!mapEnvironnement.getCell(newRow, newCol).isObstacle()) {
+            if (!mapEnvironnement.isObstacle(newRow, newCol)) {
                 this.row = newRow;
                 this.col = newCol;
                 animationFrame = (animationFrame + 1) % 3; // Sprite d'après
@@ -104,9 +105,8 @@ public class Player {
     }
 
     // Obtenir le sprite actuel basé sur la direction et l'animation
-    public Image getSprite() {
-        Image[] directionSprites = SpriteManager.getInstance().getSprites(String.format("player%d", styleIndex), lastDirection);
-        return directionSprites[animationFrame];
+    public Texture getSprite() {
+        return SpriteManager.getInstance().getSprite(spriteHandle, lastDirection, animationFrame);
     }
 
     // Pour jouer le bruit du déplacement
@@ -3,7 +3,7 @@ package com.etienne.ecosysteme.entities;
 import com.etienne.ecosysteme.environment.MapEnvironnement;
 
 import java.io.*;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Classe utilitaire pour gérer la population d'entités sur une carte.
@@ -17,9 +17,10 @@ public class PopulateUtil {
      * @param filePath   Le chemin du fichier contenant la population.
      * @param map        La carte de l'environnement.
      * @param mapVivant  La carte des entités vivantes.
+     * @param random     Générateur aléatoire dont sont issus ceux des entités.
      * @throws IOException Si une erreur survient lors de la lecture du fichier.
      */
-    public static void loadFromFile(String filePath, MapEnvironnement map, MapVivant mapVivant) throws IOException {
+    public static void loadFromFile(String filePath, MapEnvironnement map, MapVivant mapVivant, SplittableRandom random) throws IOException {
         System.out.println("Loading Map from file: " + filePath);
         try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
             String line;
@@ -37,7 +38,7 @@ public class PopulateUtil {
                 for (int col = 0; col < mapVivant.getCols(); col++) {
                     String code = codes[col];
                     if (!code.equals(".")) { // Les cellules avec "." sont ignorées
-                        placeEntityFromCode(code, row, col, map, mapVivant);
+                        placeEntityFromCode(code, row, col, map, mapVivant, random);
                     }
                 }
                 row++;
@@ -60,20 +61,21 @@ public class PopulateUtil {
      * @param col         La colonne où placer l'entité.
      * @param map         La carte de l'environnement.
      * @param mapVivant   La carte des entités vivantes.
+     * @param random      Générateur aléatoire dont est issu celui de l'entité.
      */
-    private static void placeEntityFromCode(String code, int row, int col, MapEnvironnement map, MapVivant mapVivant) {
-        if (!mapVivant.isWithinBounds(row, col) || map.getCell(row, col).isObstacle()) {
+    private static void placeEntityFromCode(String code, int row, int col, MapEnvironnement map, MapVivant mapVivant, SplittableRandom random) {
+        if (!mapVivant.isWithinBounds(row, col) || map.isObstacle(row, col)) {
             throw new IllegalArgumentException("Impossible de placer une entité sur une case hors limite ou un obstacle.");
         }
 
         // Place l'entité en fonction du code fourni
         switch (code) {
-            case "A" -> mapVivant.setEtreVivant(row, col, new Humain(row, col));
-            case "B" -> mapVivant.setEtreVivant(row, col, new Zombie(row, col));
-            case "C" -> mapVivant.setEtreVivant(row, col, new Deer(row, col));
-            case "D" -> mapVivant.setEtreVivant(row, col, new Bear(row, col));
-            case "E" -> mapVivant.setEtreVivant(row, col, new Wolf(row, col));
-            case "F" -> mapVivant.setEtreVivant(row, col, new Bunny(row, col));
+            case "A" -> mapVivant.setEtreVivant(row, col, new Humain(row, col, random.split()));
+            case "B" -> mapVivant.setEtreVivant(row, col, new Zombie(row, col, random.split()));
+            case "C" -> mapVivant.setEtreVivant(row, col, new Deer(row, col, random.split()));
+            case "D" -> mapVivant.setEtreVivant(row, col, new Bear(row, col, random.split()));
+            case "E" -> mapVivant.setEtreVivant(row, col, new Wolf(row, col, random.split()));
+            case "F" -> mapVivant.setEtreVivant(row, col, new Bunny(row, col, random.split()));
             default -> throw new IllegalArgumentException("Code inconnu : " + code);
         }
     }
@@ -86,10 +88,9 @@ public class PopulateUtil {
      * @param nbHumains   Nombre d'humains à placer.
      * @param nbZombies   Nombre de zombies à placer.
      * @param nbAnimaux   Nombre d'animaux à placer.
+     * @param random      Générateur aléatoire de la simulation.
      */
-    public static void populateRandomly(MapVivant mapVivant, MapEnvironnement map, int nbHumains, int nbZombies, int nbAnimaux) {
-        Random random = new Random();
-
+    public static void populateRandomly(MapVivant mapVivant, MapEnvironnement map, int nbHumains, int nbZombies, int nbAnimaux, SplittableRandom random) {
         // Place les humains
         placeEntities(mapVivant, map, "Humain", nbHumains, random);
 
@@ -109,7 +110,7 @@ public class PopulateUtil {
      * @param quantity    Le nombre d'entités à placer.
      * @param random      Générateur de nombres aléatoires.
      */
-    private static void placeEntities(MapVivant mapVivant, MapEnvironnement map, String type, int quantity, Random random) {
+    private static void placeEntities(MapVivant mapVivant, MapEnvironnement map, String type, int quantity, SplittableRandom random) {
         for (int i = 0; i < quantity; i++) {
             boolean placed = false;
             int attempts = 0;
@@ -118,10 +119,10 @@ public class PopulateUtil {
                 int row = random.nextInt(mapVivant.getRows());
                 int col = random.nextInt(mapVivant.getCols());
 
-                if (!map.getCell(row, col).isObstacle() && mapVivant.getEtreVivant(row, col) == null) {
+                if (!map.isObstacle(row, col) && mapVivant.getEtreVivant(row, col) == null) {
                     switch (type) {
-                        case "Humain" -> mapVivant.setEtreVivant(row, col, new Humain(row, col));
-                        case "Zombie" -> mapVivant.setEtreVivant(row, col, new Zombie(row, col));
+                        case "Humain" -> mapVivant.setEtreVivant(row, col, new Humain(row, col, random.split()));
+                        case "Zombie" -> mapVivant.setEtreVivant(row, col, new Zombie(row, col, random.split()));
                         case "Animal" -> placeRandomAnimal(row, col, mapVivant, random);
                         default -> throw new IllegalArgumentException("Type inconnu : " + type);
                     }
@@ -140,16 +141,16 @@ public class PopulateUtil {
      * @param mapVivant   La carte des entités vivantes.
      * @param random      Générateur de nombres aléatoires.
      */
-    private static void placeRandomAnimal(int row, int col, MapVivant mapVivant, Random random) {
+    private static void placeRandomAnimal(int row, int col, MapVivant mapVivant, SplittableRandom random) {
         Animaux.Type[] types = Animaux.Type.values();
         Animaux.Type randomType = types[random.nextInt(types.length)];
 
         // Place un animal en fonction du type généré aléatoirement
         switch (randomType) {
-            case DEER -> mapVivant.setEtreVivant(row, col, new Deer(row, col));
-            case BEAR -> mapVivant.setEtreVivant(row, col, new Bear(row, col));
-            case BUNNY -> mapVivant.setEtreVivant(row, col, new Bunny(row, col));
-            case WOLF -> mapVivant.setEtreVivant(row, col, new Wolf(row, col));
+            case DEER -> mapVivant.setEtreVivant(row, col, new Deer(row, col, random.split()));
+            case BEAR -> mapVivant.setEtreVivant(row, col, new Bear(row, col, random.split()));
+            case BUNNY -> mapVivant.setEtreVivant(row, col, new Bunny(row, col, random.split()));
+            case WOLF -> mapVivant.setEtreVivant(row, col, new Wolf(row, col, random.split()));
         }
     }
 }
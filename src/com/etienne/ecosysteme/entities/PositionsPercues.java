@@ -0,0 +1,90 @@
+package com.etienne.ecosysteme.entities;
+
+import java.util.Arrays;
+
+/**
+ * Positions d'êtres vivants perçus, rangées dans un tableau compact réutilisé d'une perception à l'autre :
+ * {@code [ligne0, colonne0, ligne1, colonne1, ...]}. Le tableau ne grandit que si nécessaire.
+ *
+ * <p>Fournit les calculs de score des déplacements sur ces positions, en arithmétique entière
+ * pour les distances.</p>
+ */
+final class PositionsPercues {
+
+    // Positions (deux entiers par être vivant) et nombre d'entiers utilisés
+    private int[] positions = new int[32];
+    private int taille = 0;
+
+    /**
+     * Vide les positions (sans libérer le tableau).
+     */
+    void vider() {
+        taille = 0;
+    }
+
+    /**
+     * Ajoute la position d'un être vivant.
+     * @param vivant L'être vivant.
+     */
+    void ajouter(EtreVivant vivant) {
+        if (taille + 2 > positions.length) {
+            positions = Arrays.copyOf(positions, 2 * positions.length);
+        }
+        positions[taille++] = vivant.getRow();
+        positions[taille++] = vivant.getCol();
+    }
+
+    /**
+     * Indique si aucune position n'a été perçue.
+     * @return {@code true} si la liste est vide.
+     */
+    boolean estVide() {
+        return taille == 0;
+    }
+
+    /**
+     * Retourne le nombre de positions perçues.
+     * @return Nombre d'êtres vivants.
+     */
+    int nombre() {
+        return taille / 2;
+    }
+
+    /**
+     * Somme des carrés des distances d'une case aux positions (score de fuite : plus elle est grande,
+     * plus la case est éloignée des positions).
+     *
+     * @param row Ligne de la case.
+     * @param col Colonne de la case.
+     * @return La somme des distances au carré.
+     */
+    double sommeDistancesCarrees(int row, int col) {
+        double score = 0;
+        for (int i = 0; i < taille; i += 2) {
+            int dRow = row - positions[i];
+            int dCol = col - positions[i + 1];
+            score += dRow * dRow + dCol * dCol;
+        }
+        return score;
+    }
+
+    /**
+     * Attraction d'une case vers les positions : somme de {@code coefficient / (distance² + 1)}
+     * (score de poursuite : plus une position est proche, plus le score est élevé).
+     *
+     * @param row         Ligne de la case.
+     * @param col         Colonne de la case.
+     * @param coefficient Poids de chaque position (négatif pour une répulsion).
+     * @return Le score d'attraction.
+     */
+    double attraction(int row, int col, double coefficient) {
+        double score = 0;
+        for (int i = 0; i < taille; i += 2) {
+            int dRow = row - positions[i];
+            int dCol = col - positions[i + 1];
+            double distance = dRow * dRow + dCol * dCol;
+            score += coefficient / (distance + 1);
+        }
+        return score;
+    }
+}
@@ -0,0 +1,18 @@
+package com.etienne.ecosysteme.entities;
+
+/**
+ * Score d'une case candidate pour un déplacement (voir {@link IDeplacement#seDeplacerSelonScore}).
+ * Les coordonnées et le score sont des types primitifs : l'évaluation d'une case n'alloue aucun objet.
+ */
+@FunctionalInterface
+public interface ScoreDeplacement {
+
+    /**
+     * Calcule le score d'une case : le déplacement choisi est celui de meilleur score.
+     *
+     * @param row Ligne de la case candidate.
+     * @param col Colonne de la case candidate.
+     * @return Le score de la case.
+     */
+    double score(int row, int col);
+}
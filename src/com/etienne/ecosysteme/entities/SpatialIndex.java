@@ -0,0 +1,160 @@
+package com.etienne.ecosysteme.entities;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Index spatial à grille uniforme pour les êtres vivants.
+ *
+ * <p>La carte est découpée en cellules grossières de {@value #TAILLE_CELLULE}x{@value #TAILLE_CELLULE} cases.
+ * Chaque cellule contient la liste des êtres vivants qui s'y trouvent, ce qui permet de répondre
+ * aux requêtes de perception en ne visitant que les cellules non vides qui recouvrent le rayon,
+ * au lieu de parcourir toutes les cases du carré de vision.</p>
+ *
+ * <p>L'index est tenu à jour de manière incrémentale par {@link MapVivant}.</p>
+ */
+public class SpatialIndex {
+
+    // Taille (en cases) du côté d'une cellule de l'index
+    public static final int TAILLE_CELLULE = 8;
+    private static final int DECALAGE = 3; // log2(TAILLE_CELLULE)
+
+    // Dimensions de l'index (en cellules)
+    private final int cellRows;
+    private final int cellCols;
+
+    // Listes des êtres vivants par cellule (créées à la première insertion)
+    private final List<EtreVivant>[] cellules;
+
+    /**
+     * Constructeur de l'index spatial.
+     *
+     * @param rows Nombre de lignes de la carte.
+     * @param cols Nombre de colonnes de la carte.
+     */
+    public SpatialIndex(int rows, int cols) {
+        this.cellRows = (rows + TAILLE_CELLULE - 1) >> DECALAGE;
+        this.cellCols = (cols + TAILLE_CELLULE - 1) >> DECALAGE;
+        this.cellules = creerCellules(cellRows * cellCols);
+    }
+
+    /**
+     * Crée le tableau des listes de cellules (un tableau générique ne peut pas être créé directement).
+     *
+     * @param nombre Nombre de cellules.
+     * @return Le tableau, sans aucune liste.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static List<EtreVivant>[] creerCellules(int nombre) {
+        return new List[nombre];
+    }
+
+    /**
+     * Ajoute un être vivant dans la cellule correspondant à la case (row, col).
+     *
+     * @param etre L'être vivant à ajouter.
+     * @param row  Ligne de la case occupée.
+     * @param col  Colonne de la case occupée.
+     */
+    public void ajouter(EtreVivant etre, int row, int col) {
+        int index = indexCellule(row, col);
+        List<EtreVivant> cellule = cellules[index];
+        if (cellule == null) {
+            cellule = new ArrayList<>(4);
+            cellules[index] = cellule;
+        }
+        cellule.add(etre);
+    }
+
+    /**
+     * Retire un être vivant de la cellule correspondant à la case (row, col).
+     *
+     * @param etre L'être vivant à retirer.
+     * @param row  Ligne de la case occupée.
+     * @param col  Colonne de la case occupée.
+     */
+    public void retirer(EtreVivant etre, int row, int col) {
+        List<EtreVivant> cellule = cellules[indexCellule(row, col)];
+        if (cellule == null) {
+            return;
+        }
+        // Retrait par identité, en remplaçant l'élément par le dernier de la liste
+        for (int i = 0; i < cellule.size(); i++) {
+            if (cellule.get(i) == etre) {
+                int dernier = cellule.size() - 1;
+                cellule.set(i, cellule.get(dernier));
+                cellule.remove(dernier);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Met à jour l'index après le déplacement d'un être vivant.
+     * Ne fait rien si les deux cases appartiennent à la même cellule.
+     *
+     * @param etre    L'être vivant déplacé.
+     * @param fromRow Ligne de départ.
+     * @param fromCol Colonne de départ.
+     * @param toRow   Ligne d'arrivée.
+     * @param toCol   Colonne d'arrivée.
+     */
+    public void deplacer(EtreVivant etre, int fromRow, int fromCol, int toRow, int toCol) {
+        if (indexCellule(fromRow, fromCol) == indexCellule(toRow, toCol)) {
+            return;
+        }
+        retirer(etre, fromRow, fromCol);
+        ajouter(etre, toRow, toCol);
+    }
+
+    /**
+     * Ajoute à {@code resultats} tous les êtres vivants situés à une distance euclidienne
+     * inférieure ou égale à {@code rayon} de la case (row, col).
+     * Seules les cellules non vides recouvrant le carré de recherche sont visitées.
+     *
+     * @param row       Ligne du centre de la recherche.
+     * @param col       Colonne du centre de la recherche.
+     * @param rayon     Rayon de recherche (en cases).
+     * @param resultats Liste dans laquelle ajouter les êtres vivants trouvés.
+     */
+    public void rechercher(int row, int col, int rayon, List<EtreVivant> resultats) {
+        int rayonCarre = rayon * rayon;
+
+        // Limites de la recherche (en cellules)
+        int startCellRow = Math.max(0, (row - rayon) >> DECALAGE);
+        int startCellCol = Math.max(0, (col - rayon) >> DECALAGE);
+        int endCellRow = Math.min(cellRows - 1, (row + rayon) >> DECALAGE);
+        int endCellCol = Math.min(cellCols - 1, (col + rayon) >> DECALAGE);
+
+        for (int cr = startCellRow; cr <= endCellRow; cr++) {
+            for (int cc = startCellCol; cc <= endCellCol; cc++) {
+                List<EtreVivant> cellule = cellules[cr * cellCols + cc];
+
+                // Ignore les cellules vides
+                if (cellule == null || cellule.isEmpty()) {
+                    continue;
+                }
+
+                for (int i = 0; i < cellule.size(); i++) {
+                    EtreVivant vivant = cellule.get(i);
+                    int dRow = vivant.getRow() - row;
+                    int dCol = vivant.getCol() - col;
+                    if (dRow * dRow + dCol * dCol <= rayonCarre) {
+                        resultats.add(vivant);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Calcule l'indice de la cellule contenant la case (row, col).
+     *
+     * @param row Ligne de la case.
+     * @param col Colonne de la case.
+     * @return L'indice de la cellule dans le tableau des cellules.
+     */
+    private int indexCellule(int row, int col) {
+        return (row >> DECALAGE) * cellCols + (col >> DECALAGE);
+    }
+}
@@ -1,15 +1,24 @@
 package com.etienne.ecosysteme.entities;
 
-import javafx.scene.image.Image;
+import com.etienne.ecosysteme.environment.Texture;
+import com.etienne.ecosysteme.environment.TextureAtlas;
 
-import java.util.EnumMap;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Gestionnaire de sprites pour les entités de l'écosystème.
- * Utilise un cache pour éviter de recharger les sprites plusieurs fois.
+ * Les sprites sont des zones de l'atlas des textures ({@link TextureAtlas}) : aucune image n'est lue séparément.
+ *
+ * <p>Chaque type de sprite (par exemple "human0" ou "bear") a un identifiant entier, obtenu une seule fois
+ * par {@link #getHandle(String)}, que l'entité garde après sa construction. Le sprite courant est ensuite
+ * retrouvé par {@link #getSprite(int, Animaux.Direction, int)} par simple accès à des tableaux : aucun formatage
+ * de chaîne ni calcul de hachage à chaque image. Les sprites d'un type sont recherchés dans l'atlas à leur
+ * première utilisation, et leur page n'est décodée qu'au premier dessin.</p>
+ *
  * Implémente le design pattern Singleton pour garantir une seule instance.
  */
 public class SpriteManager implements ISpriteManager {
@@ -20,18 +29,46 @@ public class SpriteManager implements ISpriteManager {
     private static final int NUM_ZOMBIE_STYLES = 1;
     private static final int NUM_PLAYER_STYLES = 1;
 
-    // Cache contenant tous les sprites chargés.
-    private final Map<String, Map<Animaux.Direction, Image[]>> spriteCache = new HashMap<>();
+    // Nombre de frames d'animation par direction.
+    private static final int NUM_FRAMES = 3;
+
+    // Types de sprites et leur catégorie, rangés par identifiant.
+    private final List<String> types = new ArrayList<>();
+    private final List<String> categories = new ArrayList<>();
+
+    // Identifiant de chaque type (utilisé uniquement à la construction des entités).
+    private final Map<String, Integer> handles = new HashMap<>();
+
+    // Sprites de chaque type, par direction puis par frame (null tant que le type n'a pas été utilisé).
+    // Rempli depuis le thread de simulation et le thread JavaFX.
+    private final AtomicReferenceArray<Texture[][]> sprites;
 
     // Instance unique du gestionnaire (Singleton).
     private static final SpriteManager INSTANCE = new SpriteManager();
 
     /**
      * Constructeur privé pour empêcher l'instanciation externe.
-     * Charge tous les sprites au démarrage.
+     * Enregistre les types de sprites, sans charger aucun sprite : chaque type l'est à sa première utilisation.
      */
     private SpriteManager() {
-        loadAllSprites();
+        // Types des animaux.
+        for (Animaux.Type type : Animaux.Type.values()) {
+            enregistrer("animals", type.name().toLowerCase());
+        }
+
+        // Types des humains, zombies et du joueur : un par style.
+        Map<String, Integer> entityConfigs = Map.of(
+                "human", NUM_HUMAN_STYLES,
+                "zombie", NUM_ZOMBIE_STYLES,
+                "player", NUM_PLAYER_STYLES
+        );
+        for (Map.Entry<String, Integer> entry : entityConfigs.entrySet()) {
+            for (int style = 0; style < entry.getValue(); style++) {
+                enregistrer(entry.getKey(), entry.getKey() + style);
+            }
+        }
+
+        sprites = new AtomicReferenceArray<>(types.size());
     }
 
     /**
@@ -44,83 +81,99 @@ public class SpriteManager implements ISpriteManager {
     }
 
     /**
-     * Charge tous les sprites nécessaires dans le cache.
+     * Enregistre un type de sprite et lui attribue l'identifiant suivant.
+     *
+     * @param category La catégorie d'entité (ex. "animals", "human").
+     * @param type     Le type de sprite (ex. "bear", "human0").
+     */
+    private void enregistrer(String category, String type) {
+        handles.put(type, types.size());
+        types.add(type);
+        categories.add(category);
+    }
+
+    /**
+     * Charge tous les sprites dans le cache, sans attendre leur première utilisation.
      * Inclut les sprites pour les animaux, les humains, les zombies et le joueur.
      */
     @Override
     public void loadAllSprites() {
-        // Charger les sprites des animaux.
-        for (Animaux.Type type : Animaux.Type.values()) {
-            String category = "animals";
-            loadSpritesForCategory(category, type.name().toLowerCase());
+        for (int handle = 0; handle < types.size(); handle++) {
+            getSpritesParHandle(handle);
         }
+    }
 
-        // Charger les sprites des humains, zombies et du joueur.
-        Map<String, Integer> entityConfigs = Map.of(
-                "human", NUM_HUMAN_STYLES,
-                "zombie", NUM_ZOMBIE_STYLES,
-                "player", NUM_PLAYER_STYLES
-        );
+    /**
+     * Retourne l'identifiant d'un type de sprite, à garder par l'entité.
+     *
+     * @param type Le type d'entité (ex. "human0", "zombie0", "bear").
+     * @return L'identifiant du type.
+     * @throws IllegalArgumentException Si le type est inconnu.
+     */
+    @Override
+    public int getHandle(String type) {
+        Integer handle = handles.get(type);
+        if (handle == null) {
+            throw new IllegalArgumentException("Type de sprite inconnu : " + type);
+        }
+        return handle;
+    }
 
-        for (Map.Entry<String, Integer> entry : entityConfigs.entrySet()) {
-            String category = entry.getKey();
-            int numStyles = entry.getValue();
+    /**
+     * Récupère le sprite d'un type pour une direction et une frame d'animation.
+     *
+     * @param handle    L'identifiant du type (voir {@link #getHandle(String)}).
+     * @param direction La direction de l'entité.
+     * @param frame     La frame d'animation.
+     * @return La texture correspondante.
+     */
+    @Override
+    public Texture getSprite(int handle, Animaux.Direction direction, int frame) {
+        return getSpritesParHandle(handle)[direction.ordinal()][frame];
+    }
 
-            // Charger chaque style pour l'entité
-            for (int style = 0; style < numStyles; style++) {
-                loadSpritesForCategory(category, category + style);
-            }
+    /**
+     * Retourne les sprites d'un type, en les recherchant dans l'atlas à la première utilisation.
+     *
+     * @param handle L'identifiant du type.
+     * @return Les sprites du type, par direction puis par frame.
+     */
+    private Texture[][] getSpritesParHandle(int handle) {
+        Texture[][] resultat = sprites.get(handle);
+        if (resultat == null) {
+            // Deux threads peuvent charger le même type : les textures obtenues sont identiques.
+            resultat = loadSpritesForCategory(categories.get(handle), types.get(handle));
+            sprites.set(handle, resultat);
         }
+        return resultat;
     }
 
     /**
-     * Charge les sprites pour une catégorie et les stocke dans le cache.
+     * Charge les sprites d'un type depuis l'atlas.
      *
-     * @param category  La catégorie d'entité (ex. "animals", "human").
-     * @param cacheKey  La clé pour accéder aux sprites dans le cache.
+     * @param category La catégorie d'entité (ex. "animals", "human").
+     * @param type     Le type de sprite (ex. "bear", "human0").
+     * @return Les sprites du type, par direction puis par frame.
      */
-    private void loadSpritesForCategory(String category, String cacheKey) {
-        Map<Animaux.Direction, Image[]> sprites = new EnumMap<>(Animaux.Direction.class);
+    private Texture[][] loadSpritesForCategory(String category, String type) {
+        Animaux.Direction[] directions = Animaux.Direction.values();
+        Texture[][] typeSprites = new Texture[directions.length][NUM_FRAMES];
 
         // Parcourt chaque direction pour charger les frames correspondantes
-        for (Animaux.Direction direction : Animaux.Direction.values()) {
-            Image[] directionSprites = new Image[3]; // Supposons 3 frames par direction.
-            for (int frame = 0; frame < 3; frame++) {
-                String path;
-
+        for (Animaux.Direction direction : directions) {
+            for (int frame = 0; frame < NUM_FRAMES; frame++) {
                 // Détermine le chemin en fonction de la catégorie.
-                path = String.format("/ressources/sprites/%s/%s/%s_%s_%d.png",
+                String path = String.format("/ressources/sprites/%s/%s/%s_%s_%d.png",
                         category,
-                        cacheKey,
-                        cacheKey,
+                        type,
+                        type,
                         direction.name().toLowerCase(),
                         frame);
-                System.out.println(path); // Debug : affiche le chemin du fichier.
-
-                // Charge l'image à partir du chemin.
-                try {
-                    directionSprites[frame] = new Image(Objects.requireNonNull(getClass().getResourceAsStream(path)));
-                } catch (Exception e) {
-                    System.err.println("Erreur lors du chargement du fichier : " + path);
-                    throw e; // Relance l'exception après journalisation.
-                }
+
+                // Zone de l'image dans l'atlas.
+                typeSprites[direction.ordinal()][frame] = TextureAtlas.get(path);
             }
-            sprites.put(direction, directionSprites);
         }
-
-        // Stocke les sprites chargés dans le cache.
-        spriteCache.put(cacheKey, sprites);
-    }
-
-    /**
-     * Récupère les sprites pour un type et une direction donnés.
-     *
-     * @param type      Le type d'entité (ex. "human0", "zombie0").
-     * @param direction La direction pour laquelle récupérer les sprites.
-     * @return Un tableau d'images correspondant aux frames de la direction donnée.
-     */
-    @Override
-    public Image[] getSprites(String type, Animaux.Direction direction) {
-        return spriteCache.get(type).get(direction);
+        return typeSprites;
     }
 }
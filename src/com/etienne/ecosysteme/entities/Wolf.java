@@ -1,12 +1,10 @@
 package com.etienne.ecosysteme.entities;
 
 import com.etienne.ecosysteme.environment.MapEnvironnement;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 
-import java.util.List;
 import java.util.Objects;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.BiPredicate;
 
 /**
  * Classe représentant un loup (Wolf) dans l'écosystème.
@@ -15,17 +13,24 @@ import java.util.Random;
  */
 public class Wolf extends Animaux {
 
+    // Filtre de perception des proies (uniquement les lapins).
+    private static final BiPredicate<EtreVivant, EtreVivant> LAPINS = (loup, vivant) -> vivant instanceof Bunny;
+
+    // Coefficient du score de poursuite (inversement proportionnel à la distance).
+    private static final double COEFFICIENT_LAPINS = 100;
+
     /**
      * Constructeur de la classe Wolf.
      *
      * @param row La ligne initiale où le loup est placé sur la carte.
      * @param col La colonne initiale où le loup est placé sur la carte.
+     * @param random Le générateur aléatoire du loup.
      */
-    public Wolf(int row, int col) {
+    public Wolf(int row, int col, SplittableRandom random) {
         // Appelle le constructeur parent avec les attributs spécifiques au loup.
         // Paramètres : position (row, col), points de vie (5), vitesse (1),
         // vision (12), et le type d'animal (WOLF).
-        super(row, col, 5, 1, 12, Type.WOLF);
+        super(row, col, 5, 1, 12, Type.WOLF, random);
     }
 
     /**
@@ -38,13 +43,10 @@ public class Wolf extends Animaux {
      */
     @Override
     public void gen_deplacement(MapVivant mapVivants, MapEnvironnement grid, int row, int col) {
-        // Récupère les lapins dans le rayon de vision du loup.
-        List<EtreVivant> lapinsAProximite = getEtreVivantsDansRayon(mapVivants, grid, getVisionRange(), -1)
-                .stream()
-                .filter(e -> e instanceof Bunny) // Filtre uniquement les lapins.
-                .toList();
+        // Perçoit les lapins dans le rayon de vision du loup.
+        Perception perception = percevoir(mapVivants, grid, getVisionRange(), -1, LAPINS, null);
 
-        if (lapinsAProximite.isEmpty()) {
+        if (perception.cibles.estVide()) {
             // Si aucun lapin n'est proche, le loup effectue une recherche active.
             int[] directionRecherche = rechercheActive(mapVivants, grid);
 
@@ -55,7 +57,6 @@ public class Wolf extends Animaux {
             }
 
             // Sinon, effectue un mouvement erratique.
-            Random random = new Random();
             if (random.nextDouble() >= 0.5) {
                 return; // Pas de déplacement.
             }
@@ -69,31 +70,13 @@ public class Wolf extends Animaux {
         }
 
         // Si des lapins sont proches, le loup se déplace en fonction du score attribué aux positions.
-        int[] direction = seDeplacerSelonScore(mapVivants, grid,
-                (newRow, newCol) -> calculerScoreDeplacement(newRow, newCol, lapinsAProximite));
+        // Plus un lapin est proche, plus le score de la position est élevé.
+        int[] direction = seDeplacerSelonScore(mapVivants, grid, perception.attraction(COEFFICIENT_LAPINS, 0));
         if (direction != null) {
             updateAnimation(parseDirection(direction));
         }
     }
 
-    /**
-     * Calcule le score d'une position en fonction de la proximité des lapins.
-     * Plus un lapin est proche, plus le score de la position est élevé.
-     *
-     * @param newRow La ligne de la position cible.
-     * @param newCol La colonne de la position cible.
-     * @param lapins La liste des lapins à proximité.
-     * @return Le score calculé pour la position.
-     */
-    private double calculerScoreDeplacement(int newRow, int newCol, List<EtreVivant> lapins) {
-        double score = 0;
-        for (EtreVivant lapin : lapins) {
-            double distance = Math.pow(newRow - lapin.getRow(), 2) + Math.pow(newCol - lapin.getCol(), 2);
-            score += 100 / (distance + 1); // Inversement proportionnel à la distance (évite division par zéro).
-        }
-        return score;
-    }
-
     /**
      * Transforme les lapins proches en espaces vides (simulation de prédation).
      *
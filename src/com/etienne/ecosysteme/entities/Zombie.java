@@ -1,10 +1,10 @@
 package com.etienne.ecosysteme.entities;
 
 import com.etienne.ecosysteme.environment.MapEnvironnement;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
+import com.etienne.ecosysteme.environment.Texture;
 
 import java.util.*;
+import java.util.function.BiPredicate;
 
 /**
  * Classe représentant un zombie (Zombie) dans l'écosystème.
@@ -20,46 +20,40 @@ public class Zombie extends EtreVivant implements IGestionNourriture {
     public static final int NOURRITURE_MAX = 500;
     public static final int NOURRITURE_MIN = 0;
 
+    // Filtre de perception des proies (humains uniquement).
+    private static final BiPredicate<EtreVivant, EtreVivant> HUMAINS = (zombie, vivant) -> vivant instanceof Humain;
+
+    // Coefficient du score de poursuite (inversement proportionnel à la distance).
+    private static final double COEFFICIENT_HUMAINS = 100;
+
     // Index du style visuel du zombie (déterminé aléatoirement).
     private final int styleIndex;
 
+    // Identifiant des sprites du style (voir SpriteManager).
+    private final int spriteHandle;
+
     /**
      * Constructeur de la classe Zombie.
      * Initialise la position, les caractéristiques et le style visuel du zombie.
      *
      * @param row La ligne initiale où le zombie est placé sur la carte.
      * @param col La colonne initiale où le zombie est placé sur la carte.
+     * @param random Le générateur aléatoire du zombie.
      */
-    public Zombie(int row, int col) {
-        super(row, col, 4, 300, 30); // Vitesse, points de vie, vision range.
-        Random random = new Random();
+    public Zombie(int row, int col, SplittableRandom random) {
+        super(row, col, 4, 300, 30, random); // Vitesse, points de vie, vision range.
         this.styleIndex = random.nextInt(NUM_ZOMBIE_STYLES); // Style visuel aléatoire.
-    }
-
-    /**
-     * Récupère le sprite visuel actuel du zombie.
-     *
-     * @param tileSize La taille des cases sur la carte.
-     * @return Une ImageView représentant le zombie.
-     */
-    @Override
-    public ImageView getSprite(int tileSize) {
-        Image sprite = getCurrentSprite();
-        ImageView imageView = new ImageView(sprite);
-        imageView.setFitWidth(tileSize);
-        imageView.setFitHeight(tileSize);
-        return imageView;
+        this.spriteHandle = SpriteManager.getInstance().getHandle("zombie" + styleIndex);
     }
 
     /**
      * Récupère le sprite actuel en fonction de la direction et de l'animation.
      *
-     * @return L'image actuelle représentant le zombie.
+     * @return La texture actuelle représentant le zombie.
      */
-    private Image getCurrentSprite() {
-        Image[] directionSprites = SpriteManager.getInstance()
-                .getSprites(String.format("zombie%d", styleIndex), getLastDirection());
-        return directionSprites[getAnimationFrame()];
+    @Override
+    public Texture getCurrentSprite() {
+        return SpriteManager.getInstance().getSprite(spriteHandle, getLastDirection(), getAnimationFrame());
     }
 
     /**
@@ -74,12 +68,9 @@ public class Zombie extends EtreVivant implements IGestionNourriture {
     @Override
     public void gen_deplacement(MapVivant mapVivants, MapEnvironnement grid, int row, int col) {
         // Recherche d'humains dans le rayon de vision.
-        List<EtreVivant> humainsAProximite = getEtreVivantsDansRayon(mapVivants, grid, getVisionRange(), -1)
-                .stream()
-                .filter(e -> e instanceof Humain)
-                .toList();
+        Perception perception = percevoir(mapVivants, grid, getVisionRange(), -1, HUMAINS, null);
 
-        if (humainsAProximite.isEmpty()) {
+        if (perception.cibles.estVide()) {
             // Déplacement erratique si aucun humain n'est visible.
             int[] directionRecherche = rechercheActive(mapVivants, grid);
             if (directionRecherche != null) {
@@ -89,7 +80,6 @@ public class Zombie extends EtreVivant implements IGestionNourriture {
             }
 
             // Mouvement aléatoire avec faible probabilité.
-            Random random = new Random();
             if (random.nextDouble() >= 0.5) {
                 return; // Pas de déplacement.
             }
@@ -101,33 +91,14 @@ public class Zombie extends EtreVivant implements IGestionNourriture {
             return;
         }
 
-        // Poursuite des humains.
-        int[] direction = seDeplacerSelonScore(mapVivants, grid,
-                (newRow, newCol) -> calculerScoreDeplacement(newRow, newCol, humainsAProximite));
+        // Poursuite des humains : plus un humain est proche, plus le score est élevé.
+        int[] direction = seDeplacerSelonScore(mapVivants, grid, perception.attraction(COEFFICIENT_HUMAINS, 0));
         if (direction != null) {
             consommerNourriture(1, mapVivants);
             updateAnimation(parseDirection(direction));
         }
     }
 
-    /**
-     * Calcule un score pour une position donnée en fonction de la proximité aux humains.
-     * Plus un humain est proche, plus le score est élevé.
-     *
-     * @param newRow  La ligne de la position cible.
-     * @param newCol  La colonne de la position cible.
-     * @param humains Liste des humains à proximité.
-     * @return Le score calculé pour la position.
-     */
-    private double calculerScoreDeplacement(int newRow, int newCol, List<EtreVivant> humains) {
-        double score = 0;
-        for (EtreVivant humain : humains) {
-            double distance = Math.pow(newRow - humain.getRow(), 2) + Math.pow(newCol - humain.getCol(), 2);
-            score += 100 / (distance + 1); // Inversement proportionnel à la distance.
-        }
-        return score;
-    }
-
     /**
      * Transforme les humains proches en zombies s'ils sont à une distance d'un carré.
      *
@@ -145,8 +116,8 @@ public class Zombie extends EtreVivant implements IGestionNourriture {
             if (mapVivants.isWithinBounds(newRow, newCol)) {
                 EtreVivant target = mapVivants.getEtreVivant(newRow, newCol);
                 if (target instanceof Humain) {
-                    // Transformation de l'humain en zombie.
-                    mapVivants.setEtreVivant(newRow, newCol, new Zombie(newRow, newCol));
+                    // Transformation de l'humain en zombie (son générateur est issu de celui du zombie).
+                    mapVivants.setEtreVivant(newRow, newCol, new Zombie(newRow, newCol, random.split()));
                     manger(200); // Gain de nourriture.
                 }
             }
@@ -1,7 +1,5 @@
 package com.etienne.ecosysteme.environment;
 
-import javafx.scene.image.Image;
-
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -21,33 +19,17 @@ public class ArbreElement extends Element {
         CLAIR, MORT, BUISSON, CHAMPIGNON, NENUPHAR, DENSE_CLAIR
     }
 
-    // Carte statique associant chaque variant d'arbre à sa texture
-    private static final Map<Variant, Image> textureMap = new HashMap<>();
+    // Carte statique associant chaque variant d'arbre au chemin de sa texture
+    private static final Map<Variant, String> textureMap = new HashMap<>();
 
-    // Chargement des textures statiques au démarrage
+    // Chemins des textures (rangées dans l'atlas, voir TextureAtlas)
     static {
-        try {
-            textureMap.put(Variant.CLAIR, new Image(Objects.requireNonNull(
-                    ArbreElement.class.getResourceAsStream("/ressources/textures/element/arbre/arbre_clair.png"),
-                    "Texture manquante : CLAIR")));
-            textureMap.put(Variant.MORT, new Image(Objects.requireNonNull(
-                    ArbreElement.class.getResourceAsStream("/ressources/textures/element/arbre/arbre_mort.png"),
-                    "Texture manquante : MORT")));
-            textureMap.put(Variant.BUISSON, new Image(Objects.requireNonNull(
-                    ArbreElement.class.getResourceAsStream("/ressources/textures/element/arbre/arbre_buisson.png"),
-                    "Texture manquante : BUISSON")));
-            textureMap.put(Variant.CHAMPIGNON, new Image(Objects.requireNonNull(
-                    ArbreElement.class.getResourceAsStream("/ressources/textures/element/arbre/champignon.png"),
-                    "Texture manquante : CHAMPIGNON")));
-            textureMap.put(Variant.NENUPHAR, new Image(Objects.requireNonNull(
-                    ArbreElement.class.getResourceAsStream("/ressources/textures/element/arbre/nenuphar.png"),
-                    "Texture manquante : NENUPHAR")));
-            textureMap.put(Variant.DENSE_CLAIR, new Image(Objects.requireNonNull(
-                    ArbreElement.class.getResourceAsStream("/ressources/textures/element/arbre/arbre_dense_clair.png"),
-                    "Texture manquante : DENSE_CLAIR")));
-        } catch (NullPointerException e) {
-            throw new RuntimeException("Erreur lors du chargement des textures d'ArbreElement", e);
-        }
+        textureMap.put(Variant.CLAIR, "/ressources/textures/element/arbre/arbre_clair.png");
+        textureMap.put(Variant.MORT, "/ressources/textures/element/arbre/arbre_mort.png");
+        textureMap.put(Variant.BUISSON, "/ressources/textures/element/arbre/arbre_buisson.png");
+        textureMap.put(Variant.CHAMPIGNON, "/ressources/textures/element/arbre/champignon.png");
+        textureMap.put(Variant.NENUPHAR, "/ressources/textures/element/arbre/nenuphar.png");
+        textureMap.put(Variant.DENSE_CLAIR, "/ressources/textures/element/arbre/arbre_dense_clair.png");
     }
 
     // Variant spécifique pour chaque instance d'ArbreElement
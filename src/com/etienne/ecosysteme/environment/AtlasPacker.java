@@ -0,0 +1,220 @@
+package com.etienne.ecosysteme.environment;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Génère l'atlas des textures et des sprites ({@link TextureAtlas}).
+ *
+ * <p>Toutes les images PNG de {@code sprites/} et de {@code textures/} (sauf {@code textures/pluie/},
+ * que le jeu n'affiche plus : la pluie est dessinée par {@link MotifsPluie}) sont regroupées en pages, une par dossier : chaque page est une image
+ * d'au plus {@value #LARGEUR} pixels de large où les images sont rangées par étagères. Les images plus grandes
+ * que {@value #TAILLE_MAX} pixels sont réduites : elles sont de toute façon affichées à la taille d'une case.
+ * Chaque image est entourée d'une bordure d'un pixel recopiant ses bords, pour que le lissage lors du dessin
+ * ne mélange pas deux images voisines. Un index commun donne la page et la zone de chaque image.</p>
+ *
+ * <p>À relancer après tout ajout ou modification d'image :
+ * {@code AtlasPacker [src/ressources]} (l'atlas est écrit dans {@code ressources/atlas/}).</p>
+ */
+public final class AtlasPacker {
+
+    // Largeur maximale d'une page (en pixels)
+    private static final int LARGEUR = 1024;
+
+    // Taille maximale d'une image dans l'atlas (en pixels)
+    private static final int TAILLE_MAX = 128;
+
+    // Dossiers rangés dans l'atlas, et dossier exclu
+    private static final String[] DOSSIERS = {"sprites", "textures"};
+    private static final String EXCLU = "textures/pluie/";
+
+    // Nom de l'index dans le dossier de l'atlas
+    private static final String INDEX = "atlas.idx";
+
+    private AtlasPacker() {
+    }
+
+    /**
+     * Image à ranger dans l'atlas.
+     */
+    private static final class Entree {
+        private final String chemin;
+        private final String page;
+        private final BufferedImage image;
+        private int x;
+        private int y;
+
+        private Entree(String chemin, String page, BufferedImage image) {
+            this.chemin = chemin;
+            this.page = page;
+            this.image = image;
+        }
+    }
+
+    /**
+     * Génère l'atlas des images d'un dossier de ressources : les pages et leur index.
+     *
+     * @param ressources Dossier des ressources (contenant {@code sprites/} et {@code textures/}).
+     * @param sortie     Dossier de l'atlas (ses anciennes pages sont supprimées).
+     * @return Le nombre de pages de l'atlas.
+     * @throws IOException Si une image n'est pas lisible ou si l'atlas ne peut pas être écrit.
+     */
+    public static int generer(Path ressources, Path sortie) throws IOException {
+        // Images regroupées par page, dans l'ordre des dossiers
+        Map<String, List<Entree>> pages = new TreeMap<>();
+        for (Entree entree : lireImages(ressources)) {
+            pages.computeIfAbsent(entree.page, p -> new ArrayList<>()).add(entree);
+        }
+
+        Files.createDirectories(sortie);
+        try (Stream<Path> anciennes = Files.list(sortie)) {
+            for (Path ancienne : anciennes.filter(p -> p.toString().endsWith(".png")).toList()) {
+                Files.delete(ancienne);
+            }
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(sortie.resolve(INDEX), StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, List<Entree>> page : pages.entrySet()) {
+                List<Entree> entrees = page.getValue();
+                ImageIO.write(ranger(entrees), "png", sortie.resolve(page.getKey()).toFile());
+
+                // Index : page x y largeur hauteur chemin
+                for (Entree entree : entrees) {
+                    writer.write(page.getKey() + " " + entree.x + " " + entree.y + " " + entree.image.getWidth() + " "
+                            + entree.image.getHeight() + " " + entree.chemin);
+                    writer.newLine();
+                }
+            }
+        }
+        return pages.size();
+    }
+
+    /**
+     * Range les images d'une page par étagères (les plus hautes d'abord, de gauche à droite) et dessine la page.
+     *
+     * @param entrees Images de la page, dont la position est calculée.
+     * @return L'image de la page.
+     */
+    private static BufferedImage ranger(List<Entree> entrees) {
+        entrees.sort(Comparator.comparingInt((Entree e) -> -e.image.getHeight()).thenComparing(e -> e.chemin));
+        int x = 0;
+        int y = 0;
+        int largeurPage = 0;
+        int hauteurEtagere = 0;
+        for (Entree entree : entrees) {
+            int largeur = entree.image.getWidth() + 2;
+            int hauteur = entree.image.getHeight() + 2;
+            if (x + largeur > LARGEUR) {
+                x = 0;
+                y += hauteurEtagere;
+                hauteurEtagere = 0;
+            }
+            entree.x = x + 1;
+            entree.y = y + 1;
+            x += largeur;
+            largeurPage = Math.max(largeurPage, x);
+            hauteurEtagere = Math.max(hauteurEtagere, hauteur);
+        }
+
+        BufferedImage page = new BufferedImage(largeurPage, y + hauteurEtagere, BufferedImage.TYPE_INT_ARGB);
+        for (Entree entree : entrees) {
+            copierAvecBordure(entree, page);
+        }
+        return page;
+    }
+
+    /**
+     * Lit les images à ranger dans l'atlas, réduites à {@value #TAILLE_MAX} pixels au plus.
+     *
+     * @param ressources Dossier des ressources.
+     * @return Les images, avec leur chemin de ressource ("/ressources/...") et leur page.
+     * @throws IOException Si une image n'est pas lisible.
+     */
+    private static List<Entree> lireImages(Path ressources) throws IOException {
+        List<Entree> entrees = new ArrayList<>();
+        for (String dossier : DOSSIERS) {
+            List<Path> fichiers;
+            try (Stream<Path> stream = Files.walk(ressources.resolve(dossier))) {
+                fichiers = stream.filter(p -> p.toString().endsWith(".png")).sorted().toList();
+            }
+            for (Path fichier : fichiers) {
+                String relatif = ressources.relativize(fichier).toString().replace('\\', '/');
+                if (relatif.startsWith(EXCLU)) {
+                    continue;
+                }
+                BufferedImage image = ImageIO.read(fichier.toFile());
+                if (image == null) {
+                    throw new IOException("Image illisible : " + fichier);
+                }
+                // Page : le dossier de l'image, par exemple "sprites_human_human0.png"
+                String page = relatif.substring(0, relatif.lastIndexOf('/')).replace('/', '_') + ".png";
+                entrees.add(new Entree("/ressources/" + relatif, page, reduire(image)));
+            }
+        }
+        return entrees;
+    }
+
+    /**
+     * Réduit une image dont un côté dépasse {@value #TAILLE_MAX} pixels, en gardant ses proportions.
+     *
+     * @param image L'image.
+     * @return L'image réduite, ou l'image elle-même si elle est assez petite.
+     */
+    private static BufferedImage reduire(BufferedImage image) {
+        int cote = Math.max(image.getWidth(), image.getHeight());
+        if (cote <= TAILLE_MAX) {
+            return image;
+        }
+        int largeur = Math.max(1, image.getWidth() * TAILLE_MAX / cote);
+        int hauteur = Math.max(1, image.getHeight() * TAILLE_MAX / cote);
+        BufferedImage reduite = new BufferedImage(largeur, hauteur, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = reduite.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g.drawImage(image, 0, 0, largeur, hauteur, null);
+        g.dispose();
+        return reduite;
+    }
+
+    /**
+     * Copie une image dans l'atlas, entourée d'une bordure d'un pixel recopiant ses bords.
+     *
+     * @param entree L'image et sa position dans l'atlas.
+     * @param page   L'image de la page.
+     */
+    private static void copierAvecBordure(Entree entree, BufferedImage page) {
+        int largeur = entree.image.getWidth();
+        int hauteur = entree.image.getHeight();
+        for (int j = -1; j <= hauteur; j++) {
+            int sy = Math.min(Math.max(j, 0), hauteur - 1);
+            for (int i = -1; i <= largeur; i++) {
+                int sx = Math.min(Math.max(i, 0), largeur - 1);
+                page.setRGB(entree.x + i, entree.y + j, entree.image.getRGB(sx, sy));
+            }
+        }
+    }
+
+    /**
+     * Génère l'atlas.
+     * @param args Dossier des ressources (par défaut : src/ressources).
+     * @throws IOException Si une image n'est pas lisible ou si l'atlas ne peut pas être écrit.
+     */
+    public static void main(String[] args) throws IOException {
+        Path ressources = Path.of(args.length > 0 ? args[0] : "src/ressources");
+        Path dossier = ressources.resolve("atlas");
+        int nombre = generer(ressources, dossier);
+        System.out.println("Atlas généré : " + nombre + " pages dans " + dossier);
+    }
+}
@@ -1,7 +1,5 @@
 package com.etienne.ecosysteme.environment;
 
-import javafx.scene.image.Image;
-
 /**
  * Classe abstraite représentant un type de base pour une case.
  * Les types de base incluent des terrains comme herbe, eau, sable, etc.
@@ -9,26 +7,36 @@ import javafx.scene.image.Image;
  */
 public abstract class BaseType {
 
-    // Texture graphique représentant le type de base
-    private final Image texture;
+    // Chemin de la texture graphique représentant le type de base
+    private final String texturePath;
+
+    // Texture dans l'atlas, résolue au premier affichage
+    private Texture texture;
 
     /**
      * Constructeur de la classe BaseType.
      * Initialise un type de base avec une texture.
      *
-     * @param texture Texture graphique associée au type de base.
+     * @param texturePath Chemin de la texture graphique associée au type de base.
      */
-    public BaseType(Image texture) {
-        this.texture = texture;
+    public BaseType(String texturePath) {
+        this.texturePath = texturePath;
     }
 
     /**
      * Retourne la texture graphique de ce type de base.
+     * La texture est recherchée dans l'atlas au premier appel (voir {@link TextureAtlas}).
      *
-     * @return Image représentant la texture du type de base.
+     * @return Texture du type de base.
      */
-    public Image getTexture() {
-        return texture;
+    public Texture getTexture() {
+        // Course sans conséquence : la texture est immuable et toujours la même pour un chemin
+        Texture resultat = texture;
+        if (resultat == null) {
+            resultat = TextureAtlas.get(texturePath);
+            texture = resultat;
+        }
+        return resultat;
     }
 
     /**
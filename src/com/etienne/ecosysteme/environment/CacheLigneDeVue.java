@@ -0,0 +1,168 @@
+package com.etienne.ecosysteme.environment;
+
+import java.util.Arrays;
+
+/**
+ * Cache des lignes de vue d'une carte environnementale.
+ *
+ * <p>Pour chaque case de départ, le cache mémorise le résultat du tracé de Bresenham vers chacun
+ * des décalages {@code (dr, dc)} du carré de côté {@code 2 * PORTEE + 1} qui l'entoure.
+ * Chaque décalage occupe deux bits : « connu » et « visible ». Ils sont remplis paresseusement,
+ * au premier tracé demandé, si bien qu'une ligne de vue déjà calculée devient une simple lecture.</p>
+ *
+ * <p>Le cache est borné : les cases de départ sont rangées dans un tableau à correspondance directe
+ * de {@link #NOMBRE_ENTREES} entrées, allouées une fois pour toutes (une case en remplace une autre
+ * en cas de collision, en réinitialisant l'entrée sur place). Une entrée peut ainsi changer de case
+ * pendant une mise à jour parallèle des êtres vivants : chaque lecture ou écriture se fait sous
+ * le verrou de l'entrée, le tracé lui-même se faisant hors verrou.</p>
+ *
+ * <p>Le terrain ne doit pas être modifié pendant un tick : {@link #invalider(int, int)} est appelée
+ * par {@link MapEnvironnement#setCell} et {@link MapEnvironnement#setElement}.</p>
+ */
+class CacheLigneDeVue {
+
+    // Portée maximale mise en cache (rayon de vision des zombies, le plus grand)
+    static final int PORTEE = 30;
+
+    // Côté du carré des décalages mis en cache
+    private static final int COTE = 2 * PORTEE + 1;
+
+    // Nombre d'entiers par case de départ (16 décalages de deux bits par entier)
+    private static final int ENTIERS_PAR_ENTREE = (COTE * COTE + 15) / 16;
+
+    // Nombre de cases de départ en cache (puissance de 2), soit environ 7,5 Mo
+    static final int NOMBRE_ENTREES = 8192;
+
+    // Indice d'une entrée libre (aucune case de départ)
+    private static final long AUCUNE_TUILE = -1;
+
+    // Bits d'un décalage
+    private static final int CONNU = 1;
+    private static final int VISIBLE = 2;
+
+    // Entrées du cache, indexées par l'indice de la case de départ
+    private final Entree[] entrees = new Entree[NOMBRE_ENTREES];
+
+    // Dimensions de la carte
+    private final int rows;
+    private final int cols;
+
+    /**
+     * Lignes de vue mémorisées pour une case de départ.
+     */
+    private static final class Entree {
+        // Indice de la case de départ (row * cols + col, sur 64 bits pour les grandes cartes)
+        long tuile = AUCUNE_TUILE;
+
+        // Deux bits par décalage : connu, visible
+        final int[] bits = new int[ENTIERS_PAR_ENTREE];
+
+        /**
+         * Réserve l'entrée pour une case de départ, en oubliant les lignes de vue de la précédente.
+         * @param tuile Indice de la nouvelle case de départ.
+         */
+        void reinitialiser(long tuile) {
+            this.tuile = tuile;
+            Arrays.fill(bits, 0);
+        }
+    }
+
+    /**
+     * Constructeur du cache.
+     * @param rows Nombre de lignes de la carte.
+     * @param cols Nombre de colonnes de la carte.
+     */
+    CacheLigneDeVue(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        for (int i = 0; i < NOMBRE_ENTREES; i++) {
+            entrees[i] = new Entree();
+        }
+    }
+
+    /**
+     * Calcule l'indice d'une case de départ.
+     *
+     * @param row La ligne de la case.
+     * @param col La colonne de la case.
+     * @return L'indice de la case dans la carte.
+     */
+    private long tuile(int row, int col) {
+        return (long) row * cols + col;
+    }
+
+    /**
+     * Retourne l'entrée où est rangée une case de départ.
+     *
+     * @param tuile L'indice de la case.
+     * @return L'entrée correspondante.
+     */
+    private Entree entree(long tuile) {
+        return entrees[(int) (tuile & (NOMBRE_ENTREES - 1))];
+    }
+
+    /**
+     * Indique si aucun obstacle ne se trouve entre deux cases, en réutilisant le tracé déjà calculé s'il existe.
+     *
+     * @param map      La carte environnementale.
+     * @param startRow La ligne de départ.
+     * @param startCol La colonne de départ.
+     * @param endRow   La ligne d'arrivée.
+     * @param endCol   La colonne d'arrivée.
+     * @return {@code true} si la ligne de vue est dégagée, {@code false} sinon.
+     */
+    boolean isLigneDeVueDegagee(MapEnvironnement map, int startRow, int startCol, int endRow, int endCol) {
+        int dr = endRow - startRow;
+        int dc = endCol - startCol;
+        if (dr < -PORTEE || dr > PORTEE || dc < -PORTEE || dc > PORTEE) {
+            // Hors de la portée du cache
+            return MapEnvironnement.tracerLigneDeVue(map, startRow, startCol, endRow, endCol);
+        }
+
+        long tuile = tuile(startRow, startCol);
+        Entree entree = entree(tuile);
+        int decalage = (dr + PORTEE) * COTE + (dc + PORTEE);
+        int mot = decalage >>> 4;
+        int position = (decalage & 15) << 1;
+        synchronized (entree) {
+            if (entree.tuile != tuile) {
+                entree.reinitialiser(tuile);
+            }
+            int etat = entree.bits[mot] >>> position;
+            if ((etat & CONNU) != 0) {
+                return (etat & VISIBLE) != 0;
+            }
+        }
+
+        boolean visible = MapEnvironnement.tracerLigneDeVue(map, startRow, startCol, endRow, endCol);
+        synchronized (entree) {
+            // L'entrée a pu être reprise par une autre case pendant le tracé
+            if (entree.tuile == tuile) {
+                entree.bits[mot] |= (visible ? CONNU | VISIBLE : CONNU) << position;
+            }
+        }
+        return visible;
+    }
+
+    /**
+     * Oublie les lignes de vue qui peuvent traverser une case modifiée,
+     * c'est-à-dire celles des cases de départ situées à moins de {@link #PORTEE} cases :
+     * seules les entrées de ces cases sont examinées.
+     *
+     * @param row La ligne de la case modifiée.
+     * @param col La colonne de la case modifiée.
+     */
+    void invalider(int row, int col) {
+        for (int r = Math.max(0, row - PORTEE); r <= Math.min(rows - 1, row + PORTEE); r++) {
+            for (int c = Math.max(0, col - PORTEE); c <= Math.min(cols - 1, col + PORTEE); c++) {
+                long tuile = tuile(r, c);
+                Entree entree = entree(tuile);
+                synchronized (entree) {
+                    if (entree.tuile == tuile) {
+                        entree.tuile = AUCUNE_TUILE;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,10 +1,7 @@
 package com.etienne.ecosysteme.environment;
 
-import javafx.scene.image.Image;
-
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 
 /**
  * Classe représentant un élément de type "Cailloux" dans l'écosystème.
@@ -21,17 +18,14 @@ public class CaillouxElement extends Element {
         MOYEN, PETIT, PONT
     }
 
-    // Carte statique associant chaque variant de cailloux à sa texture
-    private static final Map<Variant, Image> textureMap = new HashMap<>();
+    // Carte statique associant chaque variant de cailloux au chemin de sa texture
+    private static final Map<Variant, String> textureMap = new HashMap<>();
 
-    // Chargement des textures statiques au démarrage
+    // Chemins des textures (rangées dans l'atlas, voir TextureAtlas)
     static {
-        textureMap.put(Variant.MOYEN, new Image(Objects.requireNonNull(
-                CaillouxElement.class.getResourceAsStream("/ressources/textures/element/cailloux/cailloux_moyen.png"))));
-        textureMap.put(Variant.PETIT, new Image(Objects.requireNonNull(
-                CaillouxElement.class.getResourceAsStream("/ressources/textures/element/cailloux/cailloux_petit.png"))));
-        textureMap.put(Variant.PONT, new Image(Objects.requireNonNull(
-                CaillouxElement.class.getResourceAsStream("/ressources/textures/element/cailloux/cailloux_pont.png"))));
+        textureMap.put(Variant.MOYEN, "/ressources/textures/element/cailloux/cailloux_moyen.png");
+        textureMap.put(Variant.PETIT, "/ressources/textures/element/cailloux/cailloux_petit.png");
+        textureMap.put(Variant.PONT, "/ressources/textures/element/cailloux/cailloux_pont.png");
     }
 
     // Variant spécifique pour chaque instance de cailloux
@@ -0,0 +1,284 @@
+package com.etienne.ecosysteme.environment;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Format binaire des cartes environnementales (extension {@value #EXTENSION}).
+ *
+ * <p>Le fichier commence par un en-tête de quatre entiers (magie {@code "ECOS"}, version, lignes, colonnes),
+ * suivi d'un {@code short} par case, ligne par ligne : {@code (codeBase << 8) | codeElement}, où le code
+ * de base va de 0 à 33 et le code d'élément vaut 0 (aucun) ou 1 à 26 (« A » à « Z »).
+ * Le fichier est lu par projection en mémoire ({@link FileChannel#map}) et chaque case est obtenue
+ * par {@link CaseFactory#createCase(int, int)}, sans découpage de chaîne.</p>
+ *
+ * <p>Une carte trop grande pour la mémoire peut aussi être ouverte ({@link #ouvrir(Path)}) puis lue chunk
+ * par chunk ({@link #lireChunk(Chunk, int, int)}) : chaque bande de {@value Chunk#TAILLE} lignes est projetée
+ * en mémoire à la première lecture, et le système ne charge que les pages effectivement lues.</p>
+ *
+ * <p>Conversion d'une carte texte : {@code CarteBinaire carte.txt [carte.bin]}.</p>
+ */
+public final class CarteBinaire implements AutoCloseable {
+
+    // Extension des cartes binaires
+    public static final String EXTENSION = ".bin";
+
+    // Nombre magique ("ECOS") et version du format
+    private static final int MAGIE = 0x45434F53;
+    private static final int VERSION = 1;
+
+    // Taille de l'en-tête en octets (magie, version, lignes, colonnes)
+    private static final int TAILLE_EN_TETE = 4 * Integer.BYTES;
+
+    // Fichier ouvert pour une lecture par chunks
+    private final FileChannel channel;
+    private final int rows;
+    private final int cols;
+
+    // Bandes de Chunk.TAILLE lignes, projetées en mémoire à la première lecture
+    private final MappedByteBuffer[] bandes;
+
+    /**
+     * Constructeur d'une carte ouverte pour une lecture par chunks.
+     *
+     * @param channel Le fichier de la carte.
+     * @param rows    Nombre de lignes de la carte.
+     * @param cols    Nombre de colonnes de la carte.
+     */
+    private CarteBinaire(FileChannel channel, int rows, int cols) {
+        this.channel = channel;
+        this.rows = rows;
+        this.cols = cols;
+        this.bandes = new MappedByteBuffer[Chunk.nombreChunks(rows)];
+    }
+
+    /**
+     * Ouvre une carte binaire pour la lire chunk par chunk. Seul l'en-tête est lu.
+     *
+     * @param fichier Chemin de la carte binaire.
+     * @return La carte ouverte, à fermer après usage.
+     * @throws IOException Si le fichier n'est pas lisible.
+     */
+    public static CarteBinaire ouvrir(Path fichier) throws IOException {
+        FileChannel channel = FileChannel.open(fichier, StandardOpenOption.READ);
+        try {
+            long taille = channel.size();
+            if (taille < TAILLE_EN_TETE) {
+                throw new IllegalArgumentException("Carte binaire tronquée : " + fichier);
+            }
+            int[] dimensions = lireEnTete(channel.map(FileChannel.MapMode.READ_ONLY, 0, TAILLE_EN_TETE), taille, fichier);
+            return new CarteBinaire(channel, dimensions[0], dimensions[1]);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Lit les cases d'un chunk de la carte ouverte.
+     *
+     * @param chunk    Le chunk à remplir.
+     * @param chunkRow Ligne du chunk (en chunks).
+     * @param chunkCol Colonne du chunk (en chunks).
+     * @throws IOException Si la lecture échoue.
+     */
+    void lireChunk(Chunk chunk, int chunkRow, int chunkCol) throws IOException {
+        MappedByteBuffer bande = bandes[chunkRow];
+        int premiereLigne = chunkRow << Chunk.DECALAGE;
+        int hauteur = Math.min(Chunk.TAILLE, rows - premiereLigne);
+        if (bande == null) {
+            long debut = TAILLE_EN_TETE + 2L * premiereLigne * cols;
+            bande = channel.map(FileChannel.MapMode.READ_ONLY, debut, 2L * hauteur * cols);
+            bandes[chunkRow] = bande;
+        }
+
+        int premiereColonne = chunkCol << Chunk.DECALAGE;
+        int largeur = Math.min(Chunk.TAILLE, cols - premiereColonne);
+        for (int ligne = 0; ligne < hauteur; ligne++) {
+            int position = 2 * (ligne * cols + premiereColonne);
+            for (int colonne = 0; colonne < largeur; colonne++) {
+                short code = bande.getShort(position + 2 * colonne);
+                chunk.setCase(ligne, colonne, CaseFactory.createCase((code >>> 8) & 0xFF, code & 0xFF));
+            }
+        }
+    }
+
+    /**
+     * Retourne le nombre de lignes de la carte ouverte.
+     * @return Nombre de lignes.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Retourne le nombre de colonnes de la carte ouverte.
+     * @return Nombre de colonnes.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Ferme le fichier de la carte ouverte.
+     * @throws IOException Si la fermeture échoue.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Lit et vérifie l'en-tête d'une carte binaire.
+     *
+     * @param entete  Le début du fichier, positionné sur l'en-tête.
+     * @param taille  La taille du fichier.
+     * @param fichier Le chemin du fichier (pour les messages d'erreur).
+     * @return Le nombre de lignes et le nombre de colonnes de la carte.
+     */
+    private static int[] lireEnTete(ByteBuffer entete, long taille, Path fichier) {
+        if (entete.getInt() != MAGIE) {
+            throw new IllegalArgumentException("Ce fichier n'est pas une carte binaire : " + fichier);
+        }
+        int version = entete.getInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Version de carte binaire non supportée : " + version);
+        }
+        int rows = entete.getInt();
+        int cols = entete.getInt();
+        if (rows <= 0 || cols <= 0 || taille != TAILLE_EN_TETE + 2L * rows * cols) {
+            throw new IllegalArgumentException("Dimensions de carte binaire invalides : " + rows + "x" + cols);
+        }
+        return new int[]{rows, cols};
+    }
+
+    /**
+     * Lit une carte binaire.
+     *
+     * @param fichier Chemin de la carte binaire.
+     * @return La grille des cases.
+     * @throws IOException Si le fichier n'est pas lisible.
+     */
+    public static Case[][] lire(Path fichier) throws IOException {
+        try (FileChannel channel = FileChannel.open(fichier, StandardOpenOption.READ)) {
+            long taille = channel.size();
+            if (taille < TAILLE_EN_TETE) {
+                throw new IllegalArgumentException("Carte binaire tronquée : " + fichier);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, taille);
+
+            // En-tête
+            int[] dimensions = lireEnTete(buffer, taille, fichier);
+            int rows = dimensions[0];
+            int cols = dimensions[1];
+
+            // Cases
+            ShortBuffer cellules = buffer.asShortBuffer();
+            Case[][] grid = new Case[rows][cols];
+            for (int i = 0; i < rows; i++) {
+                Case[] ligne = grid[i];
+                for (int j = 0; j < cols; j++) {
+                    short code = cellules.get();
+                    ligne[j] = CaseFactory.createCase((code >>> 8) & 0xFF, code & 0xFF);
+                }
+            }
+            return grid;
+        }
+    }
+
+    /**
+     * Convertit une carte texte (codes "Numéro_Lettre" séparés par des espaces) en carte binaire.
+     *
+     * @param texte   Chemin de la carte texte.
+     * @param binaire Chemin de la carte binaire à écrire.
+     * @throws IOException Si un des fichiers n'est pas accessible.
+     */
+    public static void convertir(Path texte, Path binaire) throws IOException {
+        // Encode chaque ligne de la carte texte
+        List<short[]> lignes = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(texte)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] values = line.split(" ");
+                short[] ligne = new short[values.length];
+                for (int j = 0; j < values.length; j++) {
+                    ligne[j] = encoder(values[j]);
+                }
+                lignes.add(ligne);
+            }
+        }
+        if (lignes.isEmpty()) {
+            throw new IllegalArgumentException("Carte vide : " + texte);
+        }
+
+        int rows = lignes.size();
+        int cols = lignes.get(0).length;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(binaire)))) {
+            out.writeInt(MAGIE);
+            out.writeInt(VERSION);
+            out.writeInt(rows);
+            out.writeInt(cols);
+            for (short[] ligne : lignes) {
+                if (ligne.length < cols) {
+                    throw new IllegalArgumentException("Ligne trop courte dans la carte : " + texte);
+                }
+                for (int j = 0; j < cols; j++) {
+                    out.writeShort(ligne[j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Encode un code de case texte (par exemple "00_A") dans le format binaire.
+     *
+     * @param code Code texte de la case.
+     * @return Le code binaire de la case.
+     */
+    static short encoder(String code) {
+        String[] parts = code.split("_");
+        if (parts.length == 0 || parts.length > 2 || parts[0].length() != 2) {
+            throw new IllegalArgumentException("Format de code invalide : " + code);
+        }
+        int base = Integer.parseInt(parts[0]);
+        int element = 0;
+        if (parts.length == 2) {
+            if (parts[1].length() != 1 || parts[1].charAt(0) < 'A' || parts[1].charAt(0) > 'Z') {
+                throw new IllegalArgumentException("Format de code invalide : " + code);
+            }
+            element = parts[1].charAt(0) - 'A' + 1;
+        }
+        if (base >= CaseFactory.NOMBRE_CODES_BASE) {
+            throw new IllegalArgumentException("Type de base inconnu : " + parts[0]);
+        }
+        return (short) ((base << 8) | element);
+    }
+
+    /**
+     * Convertit une carte texte en carte binaire.
+     * @param args Carte texte, puis éventuellement la carte binaire (par défaut : même nom, extension {@value #EXTENSION}).
+     * @throws IOException Si un des fichiers n'est pas accessible.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage : CarteBinaire <carte.txt> [carte" + EXTENSION + "]");
+            return;
+        }
+        Path texte = Path.of(args[0]);
+        Path binaire = args.length > 1 ? Path.of(args[1])
+                : texte.resolveSibling(texte.getFileName().toString().replaceFirst("\\.txt$", "") + EXTENSION);
+        convertir(texte, binaire);
+        System.out.println("Carte convertie : " + binaire);
+    }
+}
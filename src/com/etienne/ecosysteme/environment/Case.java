@@ -45,6 +45,8 @@ public class Case {
 
     /**
      * Définit un nouvel élément pour la case.
+     * La case pouvant être partagée par plusieurs positions de la carte (voir {@link CaseFactory}),
+     * utiliser {@link MapEnvironnement#setElement} pour modifier une seule position.
      *
      * @param element Nouvel élément à associer à la case.
      */
@@ -1,6 +1,8 @@
 package com.etienne.ecosysteme.environment;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -12,6 +14,13 @@ public class CaseFactory {
     // Cache statique pour stocker les instances de cases déjà créées
     private static final Map<String, Case> caseCache = new HashMap<>();
 
+    // Nombre de codes de type de base (00 à 33) et d'éléments (0 : aucun, puis 1 à 26 pour A à Z)
+    public static final int NOMBRE_CODES_BASE = 34;
+    public static final int NOMBRE_CODES_ELEMENT = 27;
+
+    // Cache des cases indexé par codes numériques (carte binaire), partagé avec le cache par code texte
+    private static final Case[][] caseCacheNumerique = new Case[NOMBRE_CODES_BASE][NOMBRE_CODES_ELEMENT];
+
     /**
      * Crée une instance de case en fonction d'un code.
      * Si la case existe déjà dans le cache, elle est réutilisée.
@@ -29,6 +38,41 @@ public class CaseFactory {
         return caseCache.get(code);
     }
 
+    /**
+     * Crée une instance de case à partir de codes numériques, sans analyser de chaîne.
+     * Le code {@code (0, 1)} correspond par exemple au code texte "00_A".
+     *
+     * @param baseCode    Code du type de base (de 0 à 33).
+     * @param elementCode Code de l'élément (0 : aucun élément, 1 : "A", 2 : "B", ...).
+     * @return Une instance de case correspondant aux codes.
+     */
+    public static Case createCase(int baseCode, int elementCode) {
+        if (baseCode < 0 || baseCode >= NOMBRE_CODES_BASE || elementCode < 0 || elementCode >= NOMBRE_CODES_ELEMENT) {
+            throw new IllegalArgumentException("Code de case invalide : " + baseCode + ", " + elementCode);
+        }
+        Case cell = caseCacheNumerique[baseCode][elementCode];
+        if (cell == null) {
+            // Première rencontre : passe par le code texte pour partager la même instance
+            String code = String.format("%02d", baseCode);
+            if (elementCode != 0) {
+                code += "_" + (char) ('A' + elementCode - 1);
+            }
+            cell = createCase(code);
+            caseCacheNumerique[baseCode][elementCode] = cell;
+        }
+        return cell;
+    }
+
+    /**
+     * Retourne les cases créées jusqu'ici, c'est-à-dire les cases distinctes des cartes chargées.
+     * Permet par exemple de ne charger que les textures utilisées.
+     *
+     * @return Les cases créées.
+     */
+    public static List<Case> getCasesCreees() {
+        return new ArrayList<>(caseCache.values());
+    }
+
     /**
      * Génère une case à partir d'un code.
      * Le code est sous la forme "Numéro_Lettre", où :
@@ -0,0 +1,89 @@
+package com.etienne.ecosysteme.environment;
+
+/**
+ * Intensité de la pluie sur la carte, en basse résolution : une valeur (nombre de gouttes) par nœud
+ * d'une grille dont les nœuds sont espacés de {@value #TAILLE} cases. L'intensité d'une case
+ * est interpolée bilinéairement entre les quatre nœuds qui l'entourent.
+ *
+ * <p>Une instance est immuable : {@link Pluie} en publie une copie à chaque changement,
+ * lue par l'affichage depuis le thread JavaFX.</p>
+ */
+public final class ChampPluie {
+
+    // Écart entre deux nœuds de la grille (en cases)
+    public static final int TAILLE = 16;
+
+    // Champ sans pluie
+    public static final ChampPluie VIDE = new ChampPluie(1, new float[4], false);
+
+    // Nombre de colonnes de nœuds de la grille
+    private final int colonnes;
+
+    // Intensité de chaque nœud, ligne par ligne
+    private final float[] intensites;
+
+    // Indique si au moins un nœud est non nul
+    private final boolean pluie;
+
+    /**
+     * Constructeur du champ.
+     *
+     * @param colonnes   Nombre de colonnes de nœuds.
+     * @param intensites Intensité de chaque nœud (non copiée).
+     * @param pluie      Indique si au moins un nœud est non nul.
+     */
+    ChampPluie(int colonnes, float[] intensites, boolean pluie) {
+        this.colonnes = colonnes;
+        this.intensites = intensites;
+        this.pluie = pluie;
+    }
+
+    /**
+     * Nombre de lignes de nœuds nécessaires pour couvrir une carte.
+     *
+     * @param rows Nombre de lignes (ou de colonnes) de la carte.
+     * @return Nombre de nœuds, y compris celui qui suit la dernière case.
+     */
+    static int nombreNoeuds(int rows) {
+        return rows / TAILLE + 2;
+    }
+
+    /**
+     * Indique s'il pleut quelque part sur la carte.
+     * @return {@code true} s'il pleut.
+     */
+    public boolean isActive() {
+        return pluie;
+    }
+
+    /**
+     * Retourne l'intensité de la pluie sur une case.
+     *
+     * @param row Ligne de la case.
+     * @param col Colonne de la case.
+     * @return Nombre de gouttes sur la case (0 sans pluie).
+     */
+    public float getIntensite(int row, int col) {
+        return pluie ? echantillonner(intensites, colonnes, row, col) : 0;
+    }
+
+    /**
+     * Interpole bilinéairement l'intensité d'une case entre les nœuds qui l'entourent.
+     *
+     * @param intensites Intensité des nœuds.
+     * @param colonnes   Nombre de colonnes de nœuds.
+     * @param row        Ligne de la case (dans la carte).
+     * @param col        Colonne de la case (dans la carte).
+     * @return L'intensité interpolée.
+     */
+    static float echantillonner(float[] intensites, int colonnes, int row, int col) {
+        int i = row / TAILLE;
+        int j = col / TAILLE;
+        float dy = (float) (row - i * TAILLE) / TAILLE;
+        float dx = (float) (col - j * TAILLE) / TAILLE;
+        int indice = i * colonnes + j;
+        float haut = intensites[indice] + (intensites[indice + 1] - intensites[indice]) * dx;
+        float bas = intensites[indice + colonnes] + (intensites[indice + colonnes + 1] - intensites[indice + colonnes]) * dx;
+        return haut + (bas - haut) * dy;
+    }
+}
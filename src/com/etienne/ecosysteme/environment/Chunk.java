@@ -0,0 +1,99 @@
+package com.etienne.ecosysteme.environment;
+
+import java.io.IOException;
+
+/**
+ * Bloc de {@value #TAILLE}x{@value #TAILLE} cases de la carte environnementale.
+ *
+ * <p>La carte est découpée en chunks : seuls les chunks chargés occupent de la mémoire, ce qui permet
+ * d'ouvrir des cartes binaires plus grandes que la mémoire disponible (voir {@link MapEnvironnement}).
+ * Chaque chunk garde aussi ses obstacles sous forme de bits, une ligne du chunk par {@code long}.</p>
+ *
+ * <p>Les constantes de découpage sont partagées avec la carte des êtres vivants.</p>
+ */
+public final class Chunk {
+
+    // Taille (en cases) du côté d'un chunk
+    public static final int TAILLE = 64;
+    public static final int DECALAGE = 6; // log2(TAILLE)
+    public static final int MASQUE = TAILLE - 1;
+
+    // Cases du chunk, ligne par ligne (null hors de la carte, pour les chunks du bord)
+    final Case[] cases = new Case[TAILLE * TAILLE];
+
+    // Obstacles du chunk : un long par ligne, un bit par colonne
+    final long[] obstacles = new long[TAILLE];
+
+    // Indice du chunk dans la carte
+    final int indice;
+
+    // Le chunk a été modifié depuis son chargement (il n'est alors jamais libéré)
+    boolean modifie;
+
+    // Dernière génération où le chunk était proche d'un être vivant ou du joueur (voir MapEnvironnement)
+    long derniereUtilisation;
+
+    // Position du chunk dans la liste des chunks chargés
+    int positionCharge;
+
+    /**
+     * Constructeur d'un chunk vide.
+     * @param indice Indice du chunk dans la carte.
+     */
+    Chunk(int indice) {
+        this.indice = indice;
+    }
+
+    /**
+     * Constructeur d'un chunk lu depuis une carte binaire.
+     * Les cases sont lues dans le constructeur (sans déléguer à un autre constructeur) : les champs finaux
+     * garantissent ainsi qu'un autre thread qui obtient le chunk voit ses cases et ses obstacles.
+     *
+     * @param indice   Indice du chunk dans la carte.
+     * @param source   La carte binaire ouverte.
+     * @param chunkRow Ligne du chunk (en chunks).
+     * @param chunkCol Colonne du chunk (en chunks).
+     * @throws IOException Si la lecture échoue.
+     */
+    Chunk(int indice, CarteBinaire source, int chunkRow, int chunkCol) throws IOException {
+        this.indice = indice;
+        source.lireChunk(this, chunkRow, chunkCol);
+    }
+
+    /**
+     * Définit une case du chunk et met à jour son bit d'obstacle.
+     *
+     * @param ligne   Ligne de la case dans le chunk.
+     * @param colonne Colonne de la case dans le chunk.
+     * @param value   La case.
+     */
+    void setCase(int ligne, int colonne, Case value) {
+        cases[(ligne << DECALAGE) | colonne] = value;
+        if (value.isObstacle()) {
+            obstacles[ligne] |= 1L << colonne;
+        } else {
+            obstacles[ligne] &= ~(1L << colonne);
+        }
+    }
+
+    /**
+     * Calcule l'indice d'une case de la carte dans le tableau de son chunk.
+     *
+     * @param row Ligne de la case dans la carte.
+     * @param col Colonne de la case dans la carte.
+     * @return L'indice de la case dans son chunk.
+     */
+    public static int indiceDansChunk(int row, int col) {
+        return ((row & MASQUE) << DECALAGE) | (col & MASQUE);
+    }
+
+    /**
+     * Calcule le nombre de chunks nécessaires pour couvrir un nombre de cases.
+     *
+     * @param cases Nombre de lignes ou de colonnes de la carte.
+     * @return Le nombre de chunks correspondant.
+     */
+    public static int nombreChunks(int cases) {
+        return (cases + MASQUE) >> DECALAGE;
+    }
+}
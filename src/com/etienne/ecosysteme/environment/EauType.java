@@ -1,10 +1,7 @@
 package com.etienne.ecosysteme.environment;
 
-import javafx.scene.image.Image;
-
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 
 /**
  * Classe représentant le type de terrain "Eau" dans l'écosystème.
@@ -25,27 +22,27 @@ public class EauType extends BaseType {
         UNIQUE
     }
 
-    // Carte statique associant chaque variant à sa texture (chargée une seule fois)
-    private static final Map<Variant, Image> textureMap = new HashMap<>();
+    // Carte statique associant chaque variant au chemin de sa texture
+    private static final Map<Variant, String> textureMap = new HashMap<>();
 
-    // Chargement des textures au démarrage
+    // Chemins des textures (rangées dans l'atlas, voir TextureAtlas)
     static {
-        textureMap.put(Variant.CENTRE, new Image(Objects.requireNonNull(EauType.class.getResourceAsStream("/ressources/textures/baseType/eau/eau_centre.png"))));
-        textureMap.put(Variant.GAUCHE, new Image(Objects.requireNonNull(EauType.class.getResourceAsStream("/ressources/textures/baseType/eau/eau_gauche.png"))));
-        textureMap.put(Variant.DROITE, new Image(Objects.requireNonNull(EauType.class.getResourceAsStream("/ressources/textures/baseType/eau/eau_droite.png"))));
-        textureMap.put(Variant.HAUT, new Image(Objects.requireNonNull(EauType.class.getResourceAsStream("/ressources/textures/baseType/eau/eau_haut.png"))));
-        textureMap.put(Variant.BAS, new Image(Objects.requireNonNull(EauType.class.getResourceAsStream("/ressources/textures/baseType/eau/eau_bas.png"))));
-        textureMap.put(Variant.HAUT_GAUCHE, new Image(Objects.requireNonNull(EauType.class.getResourceAsStream("/ressources/textures/baseType/eau/eau_haut_gauche.png"))));
-        textureMap.put(Variant.HAUT_DROITE, new Image(Objects.requireNonNull(EauType.class.getResourceAsStream("/ressources/textures/baseType/eau/eau_haut_droite.png"))));
-        textureMap.put(Variant.BAS_GAUCHE, new Image(Objects.requireNonNull(EauType.class.getResourceAsStream("/ressources/textures/baseType/eau/eau_bas_gauche.png"))));
-        textureMap.put(Variant.BAS_DROITE, new Image(Objects.requireNonNull(EauType.class.getResourceAsStream("/ressources/textures/baseType/eau/eau_bas_droite.png"))));
-        textureMap.put(Variant.VERTICAL_HAUT, new Image(Objects.requireNonNull(EauType.class.getResourceAsStream("/ressources/textures/baseType/eau/eau_vertical_haut_unique.png"))));
-        textureMap.put(Variant.VERTICAL_BAS, new Image(Objects.requireNonNull(EauType.class.getResourceAsStream("/ressources/textures/baseType/eau/eau_vertical_bas_unique.png"))));
-        textureMap.put(Variant.VERTICAL_MILIEU, new Image(Objects.requireNonNull(EauType.class.getResourceAsStream("/ressources/textures/baseType/eau/eau_vertical_milieu_unique.png"))));
-        textureMap.put(Variant.HORIZONTAL_GAUCHE, new Image(Objects.requireNonNull(EauType.class.getResourceAsStream("/ressources/textures/baseType/eau/eau_horizontal_gauche_unique.png"))));
-        textureMap.put(Variant.HORIZONTAL_DROITE, new Image(Objects.requireNonNull(EauType.class.getResourceAsStream("/ressources/textures/baseType/eau/eau_horizontal_droite_unique.png"))));
-        textureMap.put(Variant.HORIZONTAL_MILIEU, new Image(Objects.requireNonNull(EauType.class.getResourceAsStream("/ressources/textures/baseType/eau/eau_horizontal_milieu_unique.png"))));
-        textureMap.put(Variant.UNIQUE, new Image(Objects.requireNonNull(EauType.class.getResourceAsStream("/ressources/textures/baseType/eau/eau_unique.png"))));
+        textureMap.put(Variant.CENTRE, "/ressources/textures/baseType/eau/eau_centre.png");
+        textureMap.put(Variant.GAUCHE, "/ressources/textures/baseType/eau/eau_gauche.png");
+        textureMap.put(Variant.DROITE, "/ressources/textures/baseType/eau/eau_droite.png");
+        textureMap.put(Variant.HAUT, "/ressources/textures/baseType/eau/eau_haut.png");
+        textureMap.put(Variant.BAS, "/ressources/textures/baseType/eau/eau_bas.png");
+        textureMap.put(Variant.HAUT_GAUCHE, "/ressources/textures/baseType/eau/eau_haut_gauche.png");
+        textureMap.put(Variant.HAUT_DROITE, "/ressources/textures/baseType/eau/eau_haut_droite.png");
+        textureMap.put(Variant.BAS_GAUCHE, "/ressources/textures/baseType/eau/eau_bas_gauche.png");
+        textureMap.put(Variant.BAS_DROITE, "/ressources/textures/baseType/eau/eau_bas_droite.png");
+        textureMap.put(Variant.VERTICAL_HAUT, "/ressources/textures/baseType/eau/eau_vertical_haut_unique.png");
+        textureMap.put(Variant.VERTICAL_BAS, "/ressources/textures/baseType/eau/eau_vertical_bas_unique.png");
+        textureMap.put(Variant.VERTICAL_MILIEU, "/ressources/textures/baseType/eau/eau_vertical_milieu_unique.png");
+        textureMap.put(Variant.HORIZONTAL_GAUCHE, "/ressources/textures/baseType/eau/eau_horizontal_gauche_unique.png");
+        textureMap.put(Variant.HORIZONTAL_DROITE, "/ressources/textures/baseType/eau/eau_horizontal_droite_unique.png");
+        textureMap.put(Variant.HORIZONTAL_MILIEU, "/ressources/textures/baseType/eau/eau_horizontal_milieu_unique.png");
+        textureMap.put(Variant.UNIQUE, "/ressources/textures/baseType/eau/eau_unique.png");
     }
 
     // Variant spécifique pour chaque instance de EauType
@@ -1,7 +1,5 @@
 package com.etienne.ecosysteme.environment;
 
-import javafx.scene.image.Image;
-
 /**
  * Classe abstraite représentant un élément présent sur une case de la carte.
  * Un élément est associé à une texture et possède des propriétés spécifiques,
@@ -9,26 +7,36 @@ import javafx.scene.image.Image;
  */
 public abstract class Element {
 
-    // Texture graphique représentant l'élément
-    private final Image texture;
+    // Chemin de la texture graphique représentant l'élément
+    private final String texturePath;
+
+    // Texture dans l'atlas, résolue au premier affichage
+    private Texture texture;
 
     /**
      * Constructeur de la classe Element.
      * Associe une texture à l'élément.
      *
-     * @param texture Texture graphique de l'élément.
+     * @param texturePath Chemin de la texture graphique de l'élément.
      */
-    public Element(Image texture) {
-        this.texture = texture;
+    public Element(String texturePath) {
+        this.texturePath = texturePath;
     }
 
     /**
      * Retourne la texture graphique de l'élément.
+     * La texture est recherchée dans l'atlas au premier appel (voir {@link TextureAtlas}).
      *
-     * @return Image représentant la texture de l'élément.
+     * @return Texture de l'élément.
      */
-    public Image getTexture() {
-        return texture;
+    public Texture getTexture() {
+        // Course sans conséquence : la texture est immuable et toujours la même pour un chemin
+        Texture resultat = texture;
+        if (resultat == null) {
+            resultat = TextureAtlas.get(texturePath);
+            texture = resultat;
+        }
+        return resultat;
     }
 
     /**
@@ -0,0 +1,94 @@
+package com.etienne.ecosysteme.environment;
+
+/**
+ * Front orageux : une zone de pluie circulaire qui dérive à vitesse constante sur la carte.
+ * L'intensité est maximale au centre du front et décroît jusqu'à s'annuler sur son bord.
+ */
+final class FrontOrageux {
+
+    // Centre du front (en cases, non entier : le front se déplace de moins d'une case par tick)
+    private double row;
+    private double col;
+
+    // Déplacement du centre à chaque tick (en cases)
+    private final double vitesseRow;
+    private final double vitesseCol;
+
+    // Rayon du front (en cases)
+    private final double rayon;
+
+    // Nombre de gouttes de pluie au centre du front
+    private final int gouttes;
+
+    // Nombre de ticks avant la dissipation du front
+    private int dureeRestante;
+
+    /**
+     * Constructeur d'un front orageux.
+     *
+     * @param row        Ligne du centre.
+     * @param col        Colonne du centre.
+     * @param vitesseRow Déplacement vertical à chaque tick (en cases).
+     * @param vitesseCol Déplacement horizontal à chaque tick (en cases).
+     * @param rayon      Rayon du front (en cases).
+     * @param gouttes    Nombre de gouttes au centre.
+     * @param duree      Durée de vie du front (en ticks).
+     */
+    FrontOrageux(double row, double col, double vitesseRow, double vitesseCol, double rayon, int gouttes, int duree) {
+        this.row = row;
+        this.col = col;
+        this.vitesseRow = vitesseRow;
+        this.vitesseCol = vitesseCol;
+        this.rayon = rayon;
+        this.gouttes = gouttes;
+        this.dureeRestante = duree;
+    }
+
+    /**
+     * Fait dériver le front d'un tick.
+     *
+     * @return {@code true} si le front est toujours actif, {@code false} s'il s'est dissipé.
+     */
+    boolean avancer() {
+        row += vitesseRow;
+        col += vitesseCol;
+        return --dureeRestante > 0;
+    }
+
+    /**
+     * Retourne l'intensité du front en un point de la carte.
+     *
+     * @param r Ligne du point (en cases).
+     * @param c Colonne du point (en cases).
+     * @return Nombre de gouttes en ce point (0 hors du front).
+     */
+    float intensite(double r, double c) {
+        double dr = r - row;
+        double dc = c - col;
+        double distance2 = (dr * dr + dc * dc) / (rayon * rayon);
+        return distance2 >= 1 ? 0 : (float) (gouttes * (1 - distance2));
+    }
+
+    /**
+     * Indique si le front recouvre encore une partie de la carte.
+     *
+     * @param rows Nombre de lignes de la carte.
+     * @param cols Nombre de colonnes de la carte.
+     * @return {@code true} si le front touche la carte.
+     */
+    boolean surLaCarte(int rows, int cols) {
+        return row + rayon > 0 && row - rayon < rows && col + rayon > 0 && col - rayon < cols;
+    }
+
+    double getRow() {
+        return row;
+    }
+
+    double getCol() {
+        return col;
+    }
+
+    double getRayon() {
+        return rayon;
+    }
+}
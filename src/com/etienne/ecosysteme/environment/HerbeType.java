@@ -1,10 +1,7 @@
 package com.etienne.ecosysteme.environment;
 
-import javafx.scene.image.Image;
-
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 
 /**
  * Classe représentant le type de terrain "Herbe" dans l'écosystème.
@@ -21,14 +18,14 @@ public class HerbeType extends BaseType {
         CLAIR, DALLE, FONCE
     }
 
-    // Carte statique associant chaque variant à sa texture (chargée une seule fois)
-    private static final Map<Variant, Image> textureMap = new HashMap<>();
+    // Carte statique associant chaque variant au chemin de sa texture
+    private static final Map<Variant, String> textureMap = new HashMap<>();
 
-    // Chargement des textures statiques
+    // Chemins des textures (rangées dans l'atlas, voir TextureAtlas)
     static {
-        textureMap.put(Variant.CLAIR, new Image(Objects.requireNonNull(HerbeType.class.getResourceAsStream("/ressources/textures/baseType/herbe/herbe_clair.png"))));
-        textureMap.put(Variant.DALLE, new Image(Objects.requireNonNull(HerbeType.class.getResourceAsStream("/ressources/textures/baseType/herbe/herbe_dalle.png"))));
-        textureMap.put(Variant.FONCE, new Image(Objects.requireNonNull(HerbeType.class.getResourceAsStream("/ressources/textures/baseType/herbe/herbe_fonce.png"))));
+        textureMap.put(Variant.CLAIR, "/ressources/textures/baseType/herbe/herbe_clair.png");
+        textureMap.put(Variant.DALLE, "/ressources/textures/baseType/herbe/herbe_dalle.png");
+        textureMap.put(Variant.FONCE, "/ressources/textures/baseType/herbe/herbe_fonce.png");
     }
 
     // Variant spécifique pour chaque instance de HerbeType
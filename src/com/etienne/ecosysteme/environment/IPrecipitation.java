@@ -1,7 +1,10 @@
 package com.etienne.ecosysteme.environment;
 
-import com.etienne.ecosysteme.entities.MapVivant;
-
+/**
+ * Précipitations de l'écosystème.
+ * Leur effet sur les êtres vivants est un ralentissement lu au moment du déplacement :
+ * démarrer ou arrêter les précipitations ne parcourt pas les êtres vivants.
+ */
 public interface IPrecipitation {
     /**
      * Active les précipitations.
@@ -14,15 +17,18 @@ public interface IPrecipitation {
     void arreter();
 
     /**
-     * Applique les effets des précipitations sur les entités vivantes.
+     * Fait évoluer les précipitations d'un tick (déplacement, dissipation).
      */
-    void appliquerEffets(MapVivant mapVivant);
+    void avancer();
 
     /**
-     * Stoppe les effets des précipitations sur les entités vivantes.
+     * Retourne le ralentissement dû aux précipitations à une position de la carte :
+     * nombre de ticks ajoutés à l'intervalle entre deux déplacements d'un être vivant.
+     * Les précipitations peuvent varier d'une région à l'autre.
+     *
+     * @param row Ligne de la position.
+     * @param col Colonne de la position.
+     * @return Le ralentissement (0 sans précipitations).
      */
-    void stopperEffets(MapVivant mapVivant);
-
-
-
+    int getRalentissement(int row, int col);
 }
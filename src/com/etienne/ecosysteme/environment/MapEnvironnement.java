@@ -4,45 +4,89 @@ package com.etienne.ecosysteme.environment;/* Classe qui représente la map */
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
-import java.util.Random;
-
-import com.etienne.ecosysteme.entities.EtreVivant;
-import com.etienne.ecosysteme.entities.MapVivant;
-import com.etienne.ecosysteme.entities.Player;
-import com.etienne.ecosysteme.entities.Zombie;
-import javafx.geometry.Pos;
-import javafx.scene.Group;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import javafx.scene.layout.GridPane;
-import javafx.scene.layout.StackPane;
-import javafx.scene.paint.Color;
-import javafx.scene.paint.Paint;
-import javafx.scene.shape.Line;
-import javafx.scene.shape.Rectangle;
 
 public class MapEnvironnement {
-    // Map pour l'environnement (case)
-    private Case[][] grid;
+    // Map pour l'environnement (case), découpée en chunks de Chunk.TAILLE x Chunk.TAILLE cases
+    private Chunk[] chunks;
     private int rows;
     private int cols;
+    private int chunkRows;
+    private int chunkCols;
+
+    // Lignes de vue déjà calculées (voir isPathClear)
+    private CacheLigneDeVue cacheLigneDeVue;
+
+    // Chargement par chunks (carte binaire ouverte avec un nombre maximal de chunks) :
+    // source des chunks non chargés (null si toute la carte est en mémoire)
+    private CarteBinaire source;
+    private int chunksMax;
+
+    // Indices des chunks chargés (chargement par chunks)
+    private int[] chunksCharges = new int[0];
+    private int nbChunksCharges = 0;
+
+    // Génération courante, avancée par libererChunks (ancienneté des chunks pour l'éviction LRU)
+    private long generation = 0;
+
+    // Version du terrain, incrémentée à chaque modification de case (le rendu ne relit la carte que si elle change)
+    private volatile int version = 0;
+
+    // Distance (en cases) autour d'un être vivant ou du joueur dans laquelle les chunks restent chargés :
+    // sa vision, plus un déplacement
+    public static final int PORTEE_UTILISATION = CacheLigneDeVue.PORTEE + 2;
+
+    // Distance (en cases) au-delà de laquelle les lignes de vue ne sont plus mises en cache
+    public static final int PORTEE_CACHE_LIGNE_DE_VUE = CacheLigneDeVue.PORTEE;
 
     // Constructeur
     public MapEnvironnement(String filePath) {
-        loadMapFromFile(filePath);
+        this(filePath, 0);
     }
 
-    // Méthode qui charge la map du fichier à filePath
-    private void loadMapFromFile(String filePath) {
+    /**
+     * Constructeur avec chargement par chunks.
+     * Une carte binaire ouverte avec {@code chunksMax > 0} n'est pas lue entièrement : ses chunks sont lus
+     * au premier accès, et {@link #libererChunks()} libère les moins récemment utilisés au-delà de {@code chunksMax}.
+     * Les cartes texte sont toujours chargées entièrement.
+     *
+     * @param filePath  Chemin du fichier de la carte.
+     * @param chunksMax Nombre de chunks gardés en mémoire (0 : toute la carte).
+     */
+    public MapEnvironnement(String filePath, int chunksMax) {
+        if (chunksMax > 0 && filePath.endsWith(CarteBinaire.EXTENSION)) {
+            ouvrirParChunks(filePath, chunksMax);
+        } else {
+            remplir(loadMapFromFile(filePath));
+        }
+    }
+
+    // Constructeur à partir d'une grille déjà construite (cartes générées, bancs d'essai)
+    public MapEnvironnement(Case[][] grid) {
+        remplir(grid);
+    }
+
+    // Méthode qui charge la map du fichier à filePath (format texte, ou binaire si l'extension est celle de CarteBinaire)
+    private Case[][] loadMapFromFile(String filePath) {
         System.out.println("Loading Map from file: " + filePath);
+        if (filePath.endsWith(CarteBinaire.EXTENSION)) {
+            try {
+                return CarteBinaire.lire(Path.of(filePath));
+            }
+            catch (IOException e) {
+                System.err.println("Erreur lors de la lecture de la map");
+            }
+            return null;
+        }
         try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
             List<String> lines = reader.lines().toList();
 
-            rows = lines.size();
-            cols = lines.getFirst().split(" ").length;
-            grid = new Case[rows][cols];
+            int rows = lines.size();
+            int cols = lines.get(0).split(" ").length;
+            Case[][] grid = new Case[rows][cols];
 
             for (int i = 0; i < rows; i++) {
                 String[] values = lines.get(i).split(" ");
@@ -51,113 +95,242 @@ public class MapEnvironnement {
                     grid[i][j] = CaseFactory.createCase(values[j]);
                 }
             }
+            return grid;
         }
         catch (IOException e) {
             System.err.println("Erreur lors de la lecture de la map");
         }
+        return null;
     }
 
-    // Méthode pour afficher la vision de la map du joueur dans un GridPane
-    public void displayMap(GridPane gridPane, int titleSize, Player player, MapVivant mapVivant, Paint lightingColor, Pluie pluie) {
-        int visionRange = player.getVisionRange();
-        int playerRow = player.getRow();
-        int playerCol = player.getCol();
-
-        // Limites Affichages
-        int windowSize = 2*visionRange + 1;
-        int startRow = Math.max(0, Math.min(playerRow - visionRange, getRows() - windowSize));
-        int startCol = Math.max(0, Math.min(playerCol - visionRange, getCols() - windowSize));
-        int endRow = Math.min(getRows(), startRow + windowSize);
-        int endCol = Math.min(getCols(), startCol + windowSize);
-
-        for (int row = startRow; row < endRow; row++) {
-            for (int col = startCol ; col < endCol; col++) {
-                // Créer un conteneur pour empiler le fond et le joueur
-                StackPane cellPane = new StackPane();
-
-                // Fond (case de la grille) avec texture
-                ImageView baseImage = new ImageView(grid[row][col].getBaseType().getTexture());
-                baseImage.setFitWidth(titleSize);
-                baseImage.setFitHeight(titleSize);
-                cellPane.getChildren().add(baseImage);
-
-                // Texture de l'élément (si présent)
-                if (grid[row][col].getElement() != null) {
-                    ImageView elementImage = new ImageView(grid[row][col].getElement().getTexture());
-                    elementImage.setFitWidth(titleSize);
-                    elementImage.setFitHeight(titleSize);
-                    cellPane.getChildren().add(elementImage);
-                }
+    /**
+     * Découpe une grille complète en chunks, tous chargés.
+     * @param grid La grille (null si la carte n'a pas pu être lue).
+     */
+    private void remplir(Case[][] grid) {
+        initialiser(grid == null ? 0 : grid.length, grid == null || grid.length == 0 ? 0 : grid[0].length);
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new Chunk(i);
+        }
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                chunks[indiceChunk(row, col)].setCase(row & Chunk.MASQUE, col & Chunk.MASQUE, grid[row][col]);
+            }
+        }
+    }
 
-                // Ajoute êtres vivants s'il y en a
-                EtreVivant vivant = mapVivant.getEtreVivant(row, col);
-                if (vivant != null) {
-                    cellPane.getChildren().add(vivant.getSprite(titleSize));
+    /**
+     * Ouvre une carte binaire sans la lire : les chunks seront lus au premier accès.
+     *
+     * @param filePath  Chemin de la carte binaire.
+     * @param chunksMax Nombre de chunks gardés en mémoire.
+     */
+    private void ouvrirParChunks(String filePath, int chunksMax) {
+        System.out.println("Opening Map by chunks: " + filePath);
+        try {
+            source = CarteBinaire.ouvrir(Path.of(filePath));
+            this.chunksMax = chunksMax;
+            initialiser(source.getRows(), source.getCols());
+        }
+        catch (IOException e) {
+            System.err.println("Erreur lors de la lecture de la map");
+            initialiser(0, 0);
+        }
+    }
 
-                    // Ajout barre pour le zombie
-                    if (vivant instanceof Zombie zombie) {
-                        double barWidth = (((double)zombie.getNourriture()) / ((double)Zombie.NOURRITURE_MAX)) * titleSize;
-                        Rectangle foodBar = new Rectangle(barWidth, 5); // Hauteur de la jauge fixe à 5
-                        foodBar.setFill(Color.GREEN);
-                        // Ajouter la jauge en haut de l'entité
-                        StackPane.setAlignment(foodBar, Pos.TOP_CENTER);
-                        cellPane.getChildren().add(foodBar);
+    /**
+     * Initialise les dimensions de la carte et le tableau (vide) des chunks.
+     *
+     * @param rows Nombre de lignes de la carte.
+     * @param cols Nombre de colonnes de la carte.
+     */
+    private void initialiser(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.chunkRows = Chunk.nombreChunks(rows);
+        this.chunkCols = Chunk.nombreChunks(cols);
+        this.chunks = new Chunk[chunkRows * chunkCols];
+        this.cacheLigneDeVue = new CacheLigneDeVue(rows, cols);
+    }
 
-                    }
+    /**
+     * Calcule l'indice du chunk contenant une case.
+     *
+     * @param row la ligne de la case
+     * @param col la colonne de la case
+     * @return l'indice du chunk
+     */
+    private int indiceChunk(int row, int col) {
+        return (row >> Chunk.DECALAGE) * chunkCols + (col >> Chunk.DECALAGE);
+    }
 
-                }
+    /**
+     * Retourne le chunk contenant une case, en le lisant s'il n'est pas chargé.
+     *
+     * @param row la ligne de la case
+     * @param col la colonne de la case
+     * @return le chunk
+     */
+    private Chunk chunk(int row, int col) {
+        int indice = indiceChunk(row, col);
+        Chunk chunk = chunks[indice];
+        return chunk != null ? chunk : chargerChunk(indice);
+    }
 
-                if (pluie.isActive()) {
-
-                    // Créer un rectangle translucide pour le fond
-                    Rectangle rainOverlay = new Rectangle(titleSize, titleSize);
-                    rainOverlay.setFill(Color.LIGHTBLUE);
-                    rainOverlay.setOpacity(0.2); // Ajustez la transparence selon vos besoins
-
-                    Random rand = new Random();
-                    cellPane.getChildren().add(rainOverlay);
-
-                    Group rainGroup = new Group();
-                    for (int i = 1; i < pluie.getGouttePluie(); i++) {
-                        double startX = rand.nextDouble() * titleSize/1.3;
-                        double startY = rand.nextDouble() * titleSize / 3;
-                        double endX = startX + rand.nextDouble() * titleSize / 10;
-                        double endY = startY + rand.nextDouble() * titleSize / 2;
-                        Line line = new Line(startX, startY, endX, endY);
-                        line.setStroke(Color.LIGHTBLUE);
-                        line.setStrokeWidth(1);
-                        rainGroup.getChildren().add(line);
-                    }
-                    cellPane.getChildren().add(rainGroup);
+    /**
+     * Lit un chunk depuis la carte binaire ouverte.
+     * Synchronisée : les chunks peuvent être demandés par plusieurs threads (mise à jour parallèle, affichage).
+     * Les cases d'un chunk sont lues dans son constructeur (champs finaux) : les threads qui le lisent
+     * sans synchronisation voient un chunk complet.
+     *
+     * @param indice l'indice du chunk
+     * @return le chunk chargé
+     */
+    private synchronized Chunk chargerChunk(int indice) {
+        Chunk chunk = chunks[indice];
+        if (chunk != null) {
+            return chunk;
+        }
+        try {
+            chunk = new Chunk(indice, source, indice / chunkCols, indice % chunkCols);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de la lecture d'un chunk de la map", e);
+        }
+        chunk.derniereUtilisation = generation;
 
-                }
+        // Ajoute le chunk à la liste des chunks chargés
+        if (nbChunksCharges == chunksCharges.length) {
+            chunksCharges = Arrays.copyOf(chunksCharges, Math.max(16, nbChunksCharges * 2));
+        }
+        chunk.positionCharge = nbChunksCharges;
+        chunksCharges[nbChunksCharges++] = indice;
+        chunks[indice] = chunk;
+        return chunk;
+    }
 
+    /**
+     * Indique si la carte est chargée par chunks (et si {@link #libererChunks()} peut libérer de la mémoire).
+     * @return {@code true} si la carte est chargée par chunks
+     */
+    public boolean isChargeeParChunks() {
+        return source != null;
+    }
 
-                // Vérifier si c'est la position du joueur
-                if (row == player.getRow() && col == player.getCol()) {
-                    ImageView playerTexture = new ImageView(player.getSprite());
-                    playerTexture.setFitWidth(titleSize);
-                    playerTexture.setFitHeight(titleSize);
+    /**
+     * Retourne le nombre de chunks actuellement en mémoire.
+     * @return le nombre de chunks chargés
+     */
+    public int getNombreChunksCharges() {
+        return source != null ? nbChunksCharges : chunks.length;
+    }
 
-                    // Ajouter la texture du joueur par-dessus le fond
-                    cellPane.getChildren().add(playerTexture);
-                }
+    /**
+     * Marque comme utilisés les chunks proches d'une position (être vivant),
+     * à moins de {@link #PORTEE_UTILISATION} cases : ils ne seront pas libérés par le prochain {@link #libererChunks()}.
+     * À appeler entre deux ticks, par le thread qui exécute la simulation.
+     *
+     * @param row la ligne de la position
+     * @param col la colonne de la position
+     */
+    public void marquerUtilise(int row, int col) {
+        marquer(row - PORTEE_UTILISATION, col - PORTEE_UTILISATION, row + PORTEE_UTILISATION, col + PORTEE_UTILISATION);
+    }
 
-                // Modification luminosité
-                Rectangle lighting = new Rectangle(titleSize, titleSize);
-                lighting.setFill(lightingColor);
-                cellPane.getChildren().add(lighting);
+    /**
+     * Marque comme utilisés les chunks de la zone affichée : ils ne seront pas libérés par le prochain
+     * {@link #libererChunks()}, et l'affichage n'a jamais à les recharger.
+     * À appeler entre deux ticks, par le thread qui exécute la simulation.
+     *
+     * @param zone la zone affichée
+     */
+    public void marquerUtilise(ZoneAffichage zone) {
+        if (zone.getRowMax() > zone.getRowMin() && zone.getColMax() > zone.getColMin()) {
+            marquer(zone.getRowMin(), zone.getColMin(), zone.getRowMax() - 1, zone.getColMax() - 1);
+        }
+    }
+
+    /**
+     * Marque comme utilisés les chunks chargés qui recouvrent un rectangle de cases.
+     *
+     * @param rowMin la première ligne du rectangle
+     * @param colMin la première colonne du rectangle
+     * @param rowMax la dernière ligne du rectangle (incluse)
+     * @param colMax la dernière colonne du rectangle (incluse)
+     */
+    private void marquer(int rowMin, int colMin, int rowMax, int colMax) {
+        if (source == null) {
+            return;
+        }
+        int debutLigne = Math.max(0, rowMin) >> Chunk.DECALAGE;
+        int finLigne = Math.min(rows - 1, rowMax) >> Chunk.DECALAGE;
+        int debutColonne = Math.max(0, colMin) >> Chunk.DECALAGE;
+        int finColonne = Math.min(cols - 1, colMax) >> Chunk.DECALAGE;
+        for (int cr = debutLigne; cr <= finLigne; cr++) {
+            for (int cc = debutColonne; cc <= finColonne; cc++) {
+                Chunk chunk = chunks[cr * chunkCols + cc];
+                if (chunk != null) {
+                    chunk.derniereUtilisation = generation;
+                }
+            }
+        }
+    }
 
-                // Ajouter le conteneur (fond + joueur) au GridPane
-                gridPane.add(cellPane, col - startCol, row - startRow);
+    /**
+     * Libère les chunks les moins récemment utilisés tant que plus de {@code chunksMax} chunks sont chargés
+     * (politique LRU). Les chunks marqués depuis le dernier appel ({@link #marquerUtilise(int, int)}) et les chunks
+     * modifiés ({@link #setCell}) ne sont jamais libérés. À appeler entre deux ticks.
+     */
+    public synchronized void libererChunks() {
+        if (source != null && nbChunksCharges > chunksMax) {
+            // Candidats triés par ancienneté : dernière utilisation en poids fort, indice du chunk en poids faible
+            long[] candidats = new long[nbChunksCharges];
+            int nbCandidats = 0;
+            for (int i = 0; i < nbChunksCharges; i++) {
+                Chunk chunk = chunks[chunksCharges[i]];
+                if (!chunk.modifie && chunk.derniereUtilisation < generation) {
+                    candidats[nbCandidats++] = (chunk.derniereUtilisation << 32) | chunk.indice;
+                }
+            }
+            Arrays.sort(candidats, 0, nbCandidats);
 
+            for (int i = 0; i < nbCandidats && nbChunksCharges > chunksMax; i++) {
+                liberer(chunks[(int) candidats[i]]);
             }
         }
+        generation++;
+    }
+
+    /**
+     * Libère un chunk chargé.
+     * @param chunk le chunk à libérer
+     */
+    private void liberer(Chunk chunk) {
+        // Retrait de la liste des chunks chargés, en le remplaçant par le dernier
+        int dernier = chunksCharges[--nbChunksCharges];
+        chunksCharges[chunk.positionCharge] = dernier;
+        chunks[dernier].positionCharge = chunk.positionCharge;
+        chunks[chunk.indice] = null;
+    }
+
+    /**
+     * Indique si une case est un obstacle, sans passer par la {@link Case} :
+     * lecture d'un bit, utilisée par toutes les vérifications de déplacement et de ligne de vue.
+     *
+     * @param row la ligne de la case (dans les limites de la carte)
+     * @param col la colonne de la case (dans les limites de la carte)
+     * @return {@code true} si la case est un obstacle, {@code false} sinon
+     */
+    public boolean isObstacle(int row, int col) {
+        // Le décalage d'un long ne garde que les 6 bits de poids faible de col (sa colonne dans le chunk)
+        return (chunk(row, col).obstacles[row & Chunk.MASQUE] & (1L << col)) != 0;
     }
 
     /**
      * Vérifie si un être vivant est visible ou détectable entre deux points selon la distance et les obstacles.
      * On utilise l'algorithme de Bresenham (celui qui permet de tracer une ligne dans un espace discret (matriciel)), en O(dist_max).
+     * Le terrain changeant rarement, le résultat du tracé est mémorisé par {@link CacheLigneDeVue} :
+     * une ligne de vue déjà calculée (à moins de {@link CacheLigneDeVue#PORTEE} cases) est vérifiée en O(1).
      *
      * <p>La méthode prend en compte une distance maximale à laquelle l'être vivant est perceptible,
      * même en présence d'obstacles. Si la distance entre le point de départ et le point d'arrivée
@@ -186,6 +359,21 @@ public class MapEnvironnement {
         }
 
         // On cherche si il y a un obstacle sur le chemin
+        return grid.cacheLigneDeVue.isLigneDeVueDegagee(grid, startRow, startCol, endRow, endCol);
+    }
+
+    /**
+     * Trace la ligne de Bresenham entre deux cases et vérifie qu'aucune case traversée
+     * (départ et arrivée comprises) n'est un obstacle.
+     *
+     * @param grid     la map
+     * @param startRow la ligne de départ
+     * @param startCol la colonne de départ
+     * @param endRow   la ligne d'arrivée
+     * @param endCol   la colonne d'arrivée
+     * @return {@code true} si aucun obstacle ne se trouve sur la ligne, {@code false} sinon
+     */
+    static boolean tracerLigneDeVue(MapEnvironnement grid, int startRow, int startCol, int endRow, int endCol) {
         int dx = Math.abs(endRow - startRow);
         int dy = Math.abs(endCol - startCol);
 
@@ -198,7 +386,7 @@ public class MapEnvironnement {
         int y = startCol;
 
         while (true) {
-            if (grid.getCell(x, y).isObstacle()) {
+            if (grid.isObstacle(x, y)) {
                 return false;
             }
 
@@ -223,14 +411,40 @@ public class MapEnvironnement {
 
     // Getter et Setter
     public Case getCell(int row, int col) {
-        return grid[row][col];
+        return chunk(row, col).cases[Chunk.indiceDansChunk(row, col)];
     }
     public void setCell(int row, int col, Case value) {
-        grid[row][col] = value;
+        // Le chunk modifié reste en mémoire (la carte binaire n'est pas réécrite)
+        Chunk chunk = chunk(row, col);
+        chunk.setCase(row & Chunk.MASQUE, col & Chunk.MASQUE, value);
+        chunk.modifie = true;
+        cacheLigneDeVue.invalider(row, col);
+        version++;
+    }
+
+    /**
+     * Remplace l'élément d'une case de la carte.
+     * Les cases étant partagées entre les positions de même code (voir {@link CaseFactory}),
+     * la case est remplacée par une nouvelle case plutôt que modifiée.
+     *
+     * @param row     la ligne de la case
+     * @param col     la colonne de la case
+     * @param element le nouvel élément (peut être null)
+     */
+    public void setElement(int row, int col, Element element) {
+        setCell(row, col, new Case(getCell(row, col).getBaseType(), element));
     }
     public int getRows() {
         return rows;
     }
+
+    /**
+     * Retourne la version du terrain, qui change à chaque modification de case ({@link #setCell}).
+     * @return Version du terrain.
+     */
+    public int getVersion() {
+        return version;
+    }
     public int getCols() {
         return cols;
     }
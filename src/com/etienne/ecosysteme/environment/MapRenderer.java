@@ -0,0 +1,377 @@
+package com.etienne.ecosysteme.environment;
+
+import com.etienne.ecosysteme.entities.MapVivantSnapshot;
+import com.etienne.ecosysteme.entities.Player;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.Arrays;
+
+/**
+ * Dessine la vision du joueur sur deux {@link Canvas} superposés, en ne redessinant que ce qui a changé.
+ *
+ * <p>Le canvas de la carte (fond, élément, être vivant et jauge de nourriture des zombies, joueur)
+ * garde ses pixels d'une image à l'autre. Pour chaque case, le rendu mémorise ce qui y a été dessiné
+ * (case, sprite de l'être vivant, jauge, sprite du joueur) et ne redessine que les cases dont l'un
+ * de ces éléments a changé : déplacement d'un être vivant, modification du terrain, déplacement du joueur.
+ * Si rien n'a changé (même instantané, même version de la carte, joueur immobile), la carte n'est pas parcourue.</p>
+ *
+ * <p>Le canvas de la carte est plus grand que la vue, de {@value #MARGE} cases de chaque côté, et il est
+ * déplacé sous la vue quand le joueur se déplace : seules les cases qui entrent dans la vue sont dessinées.
+ * Il n'est entièrement redessiné que lorsque la vue sort de ses marges.</p>
+ *
+ * <p>Le canvas du dessus porte ce qui recouvre toute la vue : la pluie, l'éclairage (cycle jour/nuit)
+ * et l'heure. Il n'est redessiné que lorsque l'un d'eux change, ou à chaque image s'il pleut (animation).
+ * La pluie n'est dessinée que sur les cases où elle tombe, selon l'intensité du {@link ChampPluie},
+ * à partir de motifs précalculés ({@link MotifsPluie}) : une image de pluie coûte autant qu'une image sèche.</p>
+ *
+ * <p>Toutes les textures sont des zones de l'atlas ({@link TextureAtlas}) : les dessins utilisent tous
+ * la même image, ce qui permet au moteur de rendu de les regrouper.</p>
+ *
+ * <p>Les êtres vivants sont lus dans un {@link MapVivantSnapshot} publié par le thread de simulation,
+ * jamais directement dans la carte des êtres vivants.</p>
+ */
+public class MapRenderer {
+
+    // Marge (en cases) du canvas de la carte autour de la vue
+    private static final int MARGE = 8;
+
+    // Hauteur de la jauge de nourriture des zombies (en pixels)
+    private static final double HAUTEUR_JAUGE = 5;
+
+    // Affichage de l'heure
+    private static final Font TIME_FONT = Font.font("Monospaced", 8);
+    private static final Color TIME_COLOR = Color.web("#FFD700");
+    private static final Color TIME_BACKGROUND = Color.BLACK.deriveColor(0, 1, 1, 0.6);
+
+    // Taille des cases (en pixels) et de la vue (en cases)
+    private final int tileSize;
+    private final int windowSize;
+
+    // Vue affichée : canvas de la carte (déplacé sous la vue) et canvas du dessus, découpés à la taille de la vue
+    private final Pane vue;
+    private final Canvas carte;
+    private final Canvas dessus;
+
+    // Côté du canvas de la carte (en cases) et case de la carte dessinée en son coin haut gauche
+    private final int tailleCarte;
+    private int origineRow;
+    private int origineCol;
+    private boolean origineDefinie = false;
+
+    // Contenu dessiné dans chaque case du canvas de la carte (null : rien de dessiné)
+    private final Case[] casesDessinees;
+    private final Texture[] spritesDessines;
+    private final float[] jaugesDessinees;
+    private final Texture[] joueursDessines;
+
+    // État de la dernière image, pour sauter la carte quand rien n'a changé
+    private MapVivantSnapshot dernierInstantane;
+    private int derniereVersionCarte = -1;
+    private int dernierStartRow = -1;
+    private int dernierStartCol = -1;
+    private int dernierJoueurRow = -1;
+    private int dernierJoueurCol = -1;
+    private Texture dernierSpriteJoueur;
+
+    // Indique si des cases n'ont pas pu être entièrement dessinées (page de l'atlas en cours de décodage)
+    private boolean incomplete = false;
+
+    // État du canvas du dessus
+    private Paint dernierEclairage;
+    private String derniereHeure;
+    private ChampPluie dernierePluie = ChampPluie.VIDE;
+
+    // Motifs de pluie précalculés, et numéro de l'image de pluie (animation de la chute)
+    private final MotifsPluie motifsPluie;
+    private long imagePluie = 0;
+
+    /**
+     * Constructeur du rendu.
+     *
+     * @param tileSize    Taille des cases affichées (en pixels).
+     * @param visionRange Portée de vision du joueur : la vue fait {@code 2 * visionRange + 1} cases de côté.
+     */
+    public MapRenderer(int tileSize, int visionRange) {
+        this.tileSize = tileSize;
+        this.windowSize = 2 * visionRange + 1;
+        this.tailleCarte = windowSize + 2 * MARGE;
+
+        int nbCases = tailleCarte * tailleCarte;
+        casesDessinees = new Case[nbCases];
+        spritesDessines = new Texture[nbCases];
+        jaugesDessinees = new float[nbCases];
+        joueursDessines = new Texture[nbCases];
+        motifsPluie = new MotifsPluie(tileSize);
+
+        double taillePixels = windowSize * tileSize;
+        carte = new Canvas(tailleCarte * tileSize, tailleCarte * tileSize);
+        dessus = new Canvas(taillePixels, taillePixels);
+        vue = new Pane(carte, dessus);
+        vue.setMinSize(taillePixels, taillePixels);
+        vue.setMaxSize(taillePixels, taillePixels);
+        vue.setClip(new Rectangle(taillePixels, taillePixels));
+    }
+
+    /**
+     * Retourne le nœud de la vue, à placer dans la scène.
+     * @return La vue.
+     */
+    public Pane getVue() {
+        return vue;
+    }
+
+    /**
+     * Retourne la zone dont les êtres vivants doivent être publiés pour la vue actuelle du joueur :
+     * la vue et sa marge, si bien qu'un instantané reste valable tant que le joueur ne s'est pas
+     * déplacé de plus de {@value #MARGE} cases depuis sa construction.
+     *
+     * @param map    Carte environnementale.
+     * @param player Joueur, au centre de la vision.
+     * @return La zone à publier.
+     */
+    public ZoneAffichage getZoneAffichage(MapEnvironnement map, Player player) {
+        int startRow = premiereCase(player.getRow(), player.getVisionRange(), map.getRows());
+        int startCol = premiereCase(player.getCol(), player.getVisionRange(), map.getCols());
+        return new ZoneAffichage(Math.max(0, startRow - MARGE), Math.max(0, startCol - MARGE),
+                Math.min(map.getRows(), startRow + windowSize + MARGE), Math.min(map.getCols(), startCol + windowSize + MARGE));
+    }
+
+    /**
+     * Calcule la première ligne (ou colonne) de la vue : la vue est centrée sur le joueur,
+     * sans sortir de la carte.
+     *
+     * @param position    Ligne (ou colonne) du joueur.
+     * @param visionRange Portée de vision du joueur.
+     * @param taille      Nombre de lignes (ou de colonnes) de la carte.
+     * @return La première ligne (ou colonne) affichée.
+     */
+    private int premiereCase(int position, int visionRange, int taille) {
+        return Math.max(0, Math.min(position - visionRange, taille - windowSize));
+    }
+
+    /**
+     * Dessine la vision du joueur.
+     *
+     * @param map           Carte environnementale.
+     * @param player        Joueur, au centre de la vision.
+     * @param vivants       Instantané des êtres vivants.
+     * @param lightingColor Couleur de l'éclairage (cycle jour/nuit).
+     * @param heure         Heure affichée en haut à droite.
+     * @param pluie         Intensité de la pluie sur la carte.
+     */
+    public void render(MapEnvironnement map, Player player, MapVivantSnapshot vivants,
+                       Paint lightingColor, String heure, ChampPluie pluie) {
+        int visionRange = player.getVisionRange();
+        int playerRow = player.getRow();
+        int playerCol = player.getCol();
+        Texture spriteJoueur = player.getSprite();
+
+        // Limites Affichages
+        int startRow = premiereCase(playerRow, visionRange, map.getRows());
+        int startCol = premiereCase(playerCol, visionRange, map.getCols());
+        int endRow = Math.min(map.getRows(), startRow + windowSize);
+        int endCol = Math.min(map.getCols(), startCol + windowSize);
+
+        // La vue sort des marges du canvas de la carte : il est recentré et entièrement redessiné
+        if (!origineDefinie || startRow < origineRow || startCol < origineCol
+                || startRow + windowSize > origineRow + tailleCarte || startCol + windowSize > origineCol + tailleCarte) {
+            recentrer(startRow, startCol);
+        }
+        carte.setTranslateX(-(startCol - origineCol) * tileSize);
+        carte.setTranslateY(-(startRow - origineRow) * tileSize);
+
+        // Rien n'a changé depuis la dernière image : la carte n'est pas parcourue
+        int versionCarte = map.getVersion();
+        boolean inchange = !incomplete && vivants == dernierInstantane && versionCarte == derniereVersionCarte
+                && startRow == dernierStartRow && startCol == dernierStartCol
+                && playerRow == dernierJoueurRow && playerCol == dernierJoueurCol && spriteJoueur == dernierSpriteJoueur;
+        if (!inchange) {
+            incomplete = false;
+            dessinerCasesModifiees(map, vivants, startRow, startCol, endRow, endCol, playerRow, playerCol, spriteJoueur);
+            dernierInstantane = vivants;
+            derniereVersionCarte = versionCarte;
+            dernierStartRow = startRow;
+            dernierStartCol = startCol;
+            dernierJoueurRow = playerRow;
+            dernierJoueurCol = playerCol;
+            dernierSpriteJoueur = spriteJoueur;
+        }
+
+        // Pluie, éclairage et heure : seulement s'ils ont changé (ou à chaque image s'il pleut)
+        if (pluie.isActive() || dernierePluie.isActive()
+                || !lightingColor.equals(dernierEclairage) || !heure.equals(derniereHeure)) {
+            dessinerDessus(startRow, startCol, endRow, endCol, lightingColor, heure, pluie);
+            dernierePluie = pluie;
+            dernierEclairage = lightingColor;
+            derniereHeure = heure;
+        }
+    }
+
+    /**
+     * Place le canvas de la carte autour de la vue et oublie son contenu.
+     *
+     * @param startRow Première ligne de la vue.
+     * @param startCol Première colonne de la vue.
+     */
+    private void recentrer(int startRow, int startCol) {
+        origineRow = startRow - MARGE;
+        origineCol = startCol - MARGE;
+        origineDefinie = true;
+        Arrays.fill(casesDessinees, null);
+        Arrays.fill(spritesDessines, null);
+        Arrays.fill(jaugesDessinees, MapVivantSnapshot.SANS_JAUGE);
+        Arrays.fill(joueursDessines, null);
+        dernierInstantane = null;
+    }
+
+    /**
+     * Redessine les cases de la vue dont le contenu a changé depuis leur dernier dessin.
+     *
+     * @param map          Carte environnementale.
+     * @param vivants      Instantané des êtres vivants.
+     * @param startRow     Première ligne de la vue.
+     * @param startCol     Première colonne de la vue.
+     * @param endRow       Ligne suivant la dernière ligne de la vue.
+     * @param endCol       Colonne suivant la dernière colonne de la vue.
+     * @param playerRow    Ligne du joueur.
+     * @param playerCol    Colonne du joueur.
+     * @param spriteJoueur Sprite actuel du joueur.
+     */
+    private void dessinerCasesModifiees(MapEnvironnement map, MapVivantSnapshot vivants, int startRow, int startCol,
+                                        int endRow, int endCol, int playerRow, int playerCol, Texture spriteJoueur) {
+        GraphicsContext gc = carte.getGraphicsContext2D();
+        for (int row = startRow; row < endRow; row++) {
+            // Êtres vivants de la ligne, parcourus avec les colonnes
+            int i = vivants.premierIndice(row, startCol);
+            for (int col = startCol; col < endCol; col++) {
+                Texture sprite = null;
+                float jauge = MapVivantSnapshot.SANS_JAUGE;
+                if (i < vivants.getTaille() && vivants.getRow(i) == row && vivants.getCol(i) == col) {
+                    sprite = vivants.getSprite(i);
+                    jauge = vivants.getJauge(i);
+                    i++;
+                }
+                Texture joueur = row == playerRow && col == playerCol ? spriteJoueur : null;
+                Case cell = map.getCell(row, col);
+
+                int k = (row - origineRow) * tailleCarte + (col - origineCol);
+                if (cell == casesDessinees[k] && sprite == spritesDessines[k]
+                        && jauge == jaugesDessinees[k] && joueur == joueursDessines[k]) {
+                    continue;
+                }
+                casesDessinees[k] = cell;
+                spritesDessines[k] = sprite;
+                jaugesDessinees[k] = jauge;
+                joueursDessines[k] = joueur;
+                if (!dessinerCase(gc, (col - origineCol) * tileSize, (row - origineRow) * tileSize, cell, sprite, jauge, joueur)) {
+                    // Une page est en cours de décodage : la case reste à redessiner
+                    casesDessinees[k] = null;
+                    incomplete = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Dessine une case : fond, élément (si présent), être vivant et jauge (si présents), joueur (s'il est sur la case).
+     *
+     * @param gc     Contexte graphique du canvas de la carte.
+     * @param x      Abscisse de la case (en pixels).
+     * @param y      Ordonnée de la case (en pixels).
+     * @param cell   Case de la carte.
+     * @param sprite Sprite de l'être vivant, ou null.
+     * @param jauge  Jauge de nourriture, ou {@link MapVivantSnapshot#SANS_JAUGE}.
+     * @param joueur Sprite du joueur, ou null.
+     * @return {@code false} si une texture n'a pas pu être dessinée (page en cours de décodage).
+     */
+    private boolean dessinerCase(GraphicsContext gc, double x, double y, Case cell, Texture sprite, float jauge, Texture joueur) {
+        boolean complete = cell.getBaseType().getTexture().dessiner(gc, x, y, tileSize);
+        if (cell.getElement() != null) {
+            complete &= cell.getElement().getTexture().dessiner(gc, x, y, tileSize);
+        }
+        if (sprite != null) {
+            complete &= sprite.dessiner(gc, x, y, tileSize);
+
+            // Jauge de nourriture centrée en haut de l'être vivant (zombies)
+            if (jauge != MapVivantSnapshot.SANS_JAUGE) {
+                double barWidth = jauge * tileSize;
+                gc.setFill(Color.GREEN);
+                gc.fillRect(x + (tileSize - barWidth) / 2, y, barWidth, HAUTEUR_JAUGE);
+            }
+        }
+
+        // Joueur par-dessus le reste
+        if (joueur != null) {
+            complete &= joueur.dessiner(gc, x, y, tileSize);
+        }
+        return complete;
+    }
+
+    /**
+     * Redessine le canvas du dessus : pluie, éclairage puis heure.
+     *
+     * @param startRow      Première ligne de la vue.
+     * @param startCol      Première colonne de la vue.
+     * @param endRow        Ligne suivant la dernière ligne de la vue.
+     * @param endCol        Colonne suivant la dernière colonne de la vue.
+     * @param lightingColor Couleur de l'éclairage.
+     * @param heure         Heure affichée.
+     * @param pluie         Intensité de la pluie sur la carte.
+     */
+    private void dessinerDessus(int startRow, int startCol, int endRow, int endCol,
+                                Paint lightingColor, String heure, ChampPluie pluie) {
+        GraphicsContext gc = dessus.getGraphicsContext2D();
+        gc.clearRect(0, 0, dessus.getWidth(), dessus.getHeight());
+        int rows = endRow - startRow;
+        int cols = endCol - startCol;
+
+        // Pluie sur les cases couvertes par un front, selon son intensité
+        if (pluie.isActive()) {
+            imagePluie++;
+            for (int row = startRow; row < endRow; row++) {
+                for (int col = startCol; col < endCol; col++) {
+                    int gouttes = Math.round(pluie.getIntensite(row, col));
+                    if (gouttes > 0) {
+                        motifsPluie.dessiner(gc, (col - startCol) * tileSize, (row - startRow) * tileSize,
+                                row, col, gouttes, imagePluie);
+                    }
+                }
+            }
+        }
+
+        // Modification luminosité, identique pour toutes les cases
+        gc.setFill(lightingColor);
+        gc.fillRect(0, 0, cols * tileSize, rows * tileSize);
+
+        drawHeure(gc, heure);
+    }
+
+    /**
+     * Affiche l'heure dans la case en haut à droite de la vue.
+     *
+     * @param gc    Contexte graphique du canvas du dessus.
+     * @param heure Heure affichée.
+     */
+    private void drawHeure(GraphicsContext gc, String heure) {
+        double x = dessus.getWidth() - tileSize;
+
+        // Rectangle de fond aux coins arrondis
+        gc.setFill(TIME_BACKGROUND);
+        gc.fillRoundRect(x, (tileSize - 20) / 2.0, 25, 20, 10, 10);
+
+        // Texte centré dans la case
+        gc.setFont(TIME_FONT);
+        gc.setFill(TIME_COLOR);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.fillText(heure, x + tileSize / 2.0, tileSize / 2.0);
+    }
+}
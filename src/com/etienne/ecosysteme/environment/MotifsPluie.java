@@ -0,0 +1,122 @@
+package com.etienne.ecosysteme.environment;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.util.Random;
+
+/**
+ * Motifs de pluie précalculés, dessinés case par case par {@link MapRenderer}.
+ *
+ * <p>Pour chaque intensité (nombre de gouttes) et quelques variantes, un motif d'une case de large
+ * porte un voile translucide et des traînées de gouttes. Il est périodique verticalement : il fait
+ * deux cases de haut, sa moitié basse répétant sa moitié haute, si bien que toute fenêtre d'une case
+ * de haut est un motif valide. L'animation de la chute consiste à décaler cette fenêtre d'une image
+ * à l'autre, sans aucun tirage aléatoire ni tracé de ligne.</p>
+ *
+ * <p>Tous les motifs sont rangés dans une seule image : la pluie d'une case coûte un dessin de zone
+ * d'image, comme une texture de terrain.</p>
+ */
+final class MotifsPluie {
+
+    // Nombre maximal de gouttes par case (au-delà, le motif le plus dense est utilisé)
+    static final int GOUTTES_MAX = 8;
+
+    // Nombre de variantes par intensité (choisie selon la case, pour éviter un motif répété à l'identique)
+    private static final int VARIANTES = 4;
+
+    // Déplacement de la pluie à chaque image (en pixels)
+    private static final int CHUTE_PAR_IMAGE = 2;
+
+    // Couleurs de la pluie
+    private static final Color COULEUR_VOILE_PLUIE = Color.LIGHTBLUE.deriveColor(0, 1, 1, 0.2);
+    private static final Color COULEUR_GOUTTE = Color.LIGHTBLUE;
+
+    // Graine fixe : les motifs sont identiques d'une exécution à l'autre
+    private static final long GRAINE = 0x9E3779B97F4A7C15L;
+
+    // Taille d'une case (en pixels)
+    private final int tileSize;
+
+    // Image des motifs : une colonne par intensité et variante, de deux cases de haut
+    private final WritableImage image;
+
+    /**
+     * Constructeur : dessine tous les motifs.
+     *
+     * @param tileSize Taille d'une case (en pixels).
+     */
+    MotifsPluie(int tileSize) {
+        this.tileSize = tileSize;
+        this.image = new WritableImage(GOUTTES_MAX * VARIANTES * tileSize, 2 * tileSize);
+        Random random = new Random(GRAINE);
+        for (int gouttes = 1; gouttes <= GOUTTES_MAX; gouttes++) {
+            for (int variante = 0; variante < VARIANTES; variante++) {
+                dessinerMotif(image.getPixelWriter(), indiceMotif(gouttes, variante) * tileSize, gouttes, random);
+            }
+        }
+    }
+
+    /**
+     * Dessine un motif : le voile, puis {@code gouttes - 1} traînées (comme l'ancien tracé case par case).
+     * Chaque traînée est recopiée dans les deux moitiés du motif, en bouclant verticalement.
+     *
+     * @param writer  Écriture dans l'image des motifs.
+     * @param x0      Abscisse du motif dans l'image.
+     * @param gouttes Nombre de gouttes du motif.
+     * @param random  Générateur des positions des traînées.
+     */
+    private void dessinerMotif(PixelWriter writer, int x0, int gouttes, Random random) {
+        for (int y = 0; y < 2 * tileSize; y++) {
+            for (int x = 0; x < tileSize; x++) {
+                writer.setColor(x0 + x, y, COULEUR_VOILE_PLUIE);
+            }
+        }
+        for (int i = 1; i < gouttes; i++) {
+            int startX = random.nextInt(tileSize);
+            int startY = random.nextInt(tileSize);
+            int largeur = random.nextInt(tileSize / 10 + 1);
+            int hauteur = Math.max(1, tileSize / 4 + random.nextInt(tileSize / 4 + 1));
+            for (int k = 0; k <= hauteur; k++) {
+                int x = Math.min(tileSize - 1, startX + largeur * k / hauteur);
+                int y = (startY + k) % tileSize;
+                writer.setColor(x0 + x, y, COULEUR_GOUTTE);
+                writer.setColor(x0 + x, y + tileSize, COULEUR_GOUTTE);
+            }
+        }
+    }
+
+    /**
+     * Dessine la pluie sur une case.
+     *
+     * @param gc      Contexte graphique du canvas.
+     * @param x       Abscisse de la case (en pixels).
+     * @param y       Ordonnée de la case (en pixels).
+     * @param row     Ligne de la case dans la carte (choix de la variante et décalage propre à la case).
+     * @param col     Colonne de la case dans la carte.
+     * @param gouttes Nombre de gouttes sur la case (au moins 1).
+     * @param image   Numéro de l'image affichée (animation de la chute).
+     */
+    void dessiner(GraphicsContext gc, double x, double y, int row, int col, int gouttes, long image) {
+        int hachage = (row * 73856093) ^ (col * 19349663);
+        int variante = Math.floorMod(hachage, VARIANTES);
+        int decalage = (int) Math.floorMod(hachage + image * CHUTE_PAR_IMAGE, (long) tileSize);
+        // La fenêtre remonte dans le motif : les gouttes descendent à l'écran
+        int sy = tileSize - decalage;
+        gc.drawImage(this.image, indiceMotif(Math.min(gouttes, GOUTTES_MAX), variante) * tileSize, sy,
+                tileSize, tileSize, x, y, tileSize, tileSize);
+    }
+
+    /**
+     * Retourne la position d'un motif dans l'image (en nombre de cases).
+     *
+     * @param gouttes  Nombre de gouttes (entre 1 et {@link #GOUTTES_MAX}).
+     * @param variante Variante du motif.
+     * @return L'indice du motif.
+     */
+    private static int indiceMotif(int gouttes, int variante) {
+        return (gouttes - 1) * VARIANTES + variante;
+    }
+}
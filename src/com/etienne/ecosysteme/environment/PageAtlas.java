@@ -0,0 +1,110 @@
+package com.etienne.ecosysteme.environment;
+
+import javafx.scene.image.Image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Page de l'atlas des textures : une image regroupant les textures d'un même dossier
+ * (par exemple, tous les sprites d'un style d'humain, ou toutes les textures d'eau).
+ *
+ * <p>L'image n'est décodée qu'à la première demande, une seule fois, sur l'exécuteur de l'atlas.
+ * Une page dont aucune texture n'est affichée n'est jamais décodée.</p>
+ */
+final class PageAtlas {
+
+    // Chemin de l'image de la page (null pour une image déjà chargée)
+    private final String chemin;
+
+    // Décodage de l'image de la page (null tant qu'il n'est pas lancé)
+    private CompletableFuture<Image> image;
+
+    // Image décodée, lue sans verrou à chaque dessin
+    private volatile Image decodee;
+
+    /**
+     * Constructeur d'une page à charger depuis les ressources.
+     * @param chemin Chemin de l'image de la page.
+     */
+    PageAtlas(String chemin) {
+        this.chemin = chemin;
+    }
+
+    /**
+     * Constructeur d'une page déjà chargée (texture hors atlas).
+     * @param image L'image.
+     */
+    PageAtlas(Image image) {
+        this.chemin = null;
+        this.image = CompletableFuture.completedFuture(image);
+        this.decodee = image;
+    }
+
+    /**
+     * Lance le décodage de l'image sur l'exécuteur s'il n'est pas déjà lancé.
+     *
+     * @param executor Exécuteur du décodage.
+     * @return L'image de la page, à venir.
+     */
+    synchronized CompletableFuture<Image> charger(Executor executor) {
+        if (image == null) {
+            image = CompletableFuture.supplyAsync(this::decoder, executor);
+        }
+        return image;
+    }
+
+    /**
+     * Retourne l'image de la page si elle est décodée. Sinon, lance son décodage sans l'attendre :
+     * le thread d'affichage n'est jamais bloqué par le décodage d'une page.
+     *
+     * @return L'image de la page, ou null si elle n'est pas encore décodée.
+     */
+    Image getImageSiDecodee() {
+        Image resultat = decodee;
+        if (resultat == null) {
+            CompletableFuture<Image> chargement = charger(TextureAtlas.executor());
+            if (!chargement.isDone()) {
+                return null;
+            }
+            // Relance l'erreur de décodage, le cas échéant
+            resultat = chargement.join();
+            decodee = resultat;
+        }
+        return resultat;
+    }
+
+    /**
+     * Retourne l'image de la page, en attendant son décodage si nécessaire.
+     * @return L'image de la page.
+     */
+    Image getImage() {
+        Image resultat = decodee;
+        if (resultat == null) {
+            resultat = charger(TextureAtlas.executor()).join();
+            decodee = resultat;
+        }
+        return resultat;
+    }
+
+    /**
+     * Lit et décode l'image de la page.
+     * @return L'image décodée.
+     */
+    private Image decoder() {
+        try (InputStream in = Objects.requireNonNull(PageAtlas.class.getResourceAsStream(chemin),
+                "Page d'atlas manquante : " + chemin + " (à générer avec AtlasPacker)")) {
+            Image resultat = new Image(in);
+            if (resultat.isError()) {
+                throw new IllegalStateException("Page d'atlas illisible : " + chemin, resultat.getException());
+            }
+            return resultat;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Page d'atlas illisible : " + chemin, e);
+        }
+    }
+}
@@ -1,115 +1,194 @@
 package com.etienne.ecosysteme.environment;
 
-import com.etienne.ecosysteme.entities.EtreVivant;
-import com.etienne.ecosysteme.entities.MapVivant;
-import javafx.scene.image.Image;
-
-import java.util.Objects;
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Classe représentant les précipitations de pluie dans l'écosystème.
- * La pluie a des effets dynamiques sur les entités vivantes, comme l'augmentation de leur vitesse.
+ *
+ * <p>La pluie tombe sous des fronts orageux ({@link FrontOrageux}) qui couvrent une région de la carte
+ * et dérivent lentement, jusqu'à se dissiper. Leur intensité est rangée dans une grille en basse
+ * résolution (un nœud toutes les {@value ChampPluie#TAILLE} cases) : à chaque tick, seuls les nœuds
+ * recouverts par un front qui a bougé sont recalculés, quelle que soit la taille de la carte.</p>
+ *
+ * <p>La pluie ralentit les êtres vivants, proportionnellement à son intensité sur leur case
+ * ({@link #getRalentissement(int, int)}) : l'effet disparaît avec le front.</p>
  */
 public class Pluie implements IPrecipitation {
 
-    // Indique si la pluie est active
-    private boolean active = false;
-
-    // Nombre minimal et maximal de gouttes de pluie
+    // Nombre minimal et maximal de gouttes de pluie au centre d'un front
     private static final int MIN_PLUIE = 3;
     private static final int MAX_PLUIE = 6;
 
-    // Nombre de gouttes de pluie actuelles
-    private static int gouttePluie = 5;
+    // Nombre maximal de fronts simultanés
+    private static final int MAX_FRONTS = 4;
+
+    // Rayon d'un front (en cases) : une part de la plus petite dimension de la carte, bornée
+    private static final double RAYON_MIN = 10;
+    private static final double RAYON_MAX = 120;
+
+    // Vitesse de dérive d'un front (en cases par tick)
+    private static final double VITESSE_MIN = 0.02;
+    private static final double VITESSE_MAX = 0.06;
+
+    // Durée de vie d'un front (en ticks)
+    private static final int DUREE_MIN = 400;
+    private static final int DUREE_MAX = 2000;
+
+    // Dimensions de la carte (en cases)
+    private final int rows;
+    private final int cols;
+
+    // Grille d'intensité : nombre de nœuds et intensité de chaque nœud
+    private final int lignesNoeuds;
+    private final int colonnesNoeuds;
+    private final float[] intensites;
 
-    // Image utilisée pour représenter visuellement la pluie
-    public static final Image rainImage = new Image(Objects.requireNonNull(
-            Pluie.class.getResourceAsStream("/ressources/textures/pluie/pluie.png"))
-    );
+    // Fronts orageux en cours
+    private final List<FrontOrageux> fronts = new ArrayList<>();
+
+    // Dernier champ publié pour l'affichage, et indicateur de modification de la grille depuis
+    private ChampPluie champ = ChampPluie.VIDE;
+    private boolean modifie = false;
+
+    // Générateur aléatoire pour la formation des fronts
+    private final SplittableRandom random;
+
+    /**
+     * Constructeur de la pluie.
+     *
+     * @param rows   Nombre de lignes de la carte.
+     * @param cols   Nombre de colonnes de la carte.
+     * @param random Générateur aléatoire (issu de celui de la simulation).
+     */
+    public Pluie(int rows, int cols, SplittableRandom random) {
+        this.rows = rows;
+        this.cols = cols;
+        this.random = random;
+        lignesNoeuds = ChampPluie.nombreNoeuds(rows);
+        colonnesNoeuds = ChampPluie.nombreNoeuds(cols);
+        intensites = new float[lignesNoeuds * colonnesNoeuds];
+    }
 
     /**
-     * Démarre les précipitations de pluie.
-     * Définit la pluie comme active et génère aléatoirement le nombre de gouttes dans une plage définie.
+     * Forme un nouveau front orageux, à une position, une force et une direction aléatoires.
+     * Sans effet si le nombre maximal de fronts est atteint.
      */
     @Override
     public void demarrer() {
-        active = true;
-        Random rand = new Random();
-        gouttePluie = MIN_PLUIE + rand.nextInt((MAX_PLUIE - MIN_PLUIE) + 1);
+        if (fronts.size() >= MAX_FRONTS) {
+            return;
+        }
+        double rayon = Math.max(RAYON_MIN, Math.min(RAYON_MAX, Math.min(rows, cols) * (0.1 + 0.2 * random.nextDouble())));
+        double angle = random.nextDouble() * 2 * Math.PI;
+        double vitesse = VITESSE_MIN + (VITESSE_MAX - VITESSE_MIN) * random.nextDouble();
+        FrontOrageux front = new FrontOrageux(random.nextDouble() * rows, random.nextDouble() * cols,
+                vitesse * Math.sin(angle), vitesse * Math.cos(angle), rayon,
+                MIN_PLUIE + random.nextInt((MAX_PLUIE - MIN_PLUIE) + 1),
+                DUREE_MIN + random.nextInt(DUREE_MAX - DUREE_MIN + 1));
+        fronts.add(front);
+        recalculer(front.getRow(), front.getCol(), front.getRayon());
     }
 
     /**
-     * Arrête les précipitations de pluie.
-     * Définit la pluie comme inactive.
+     * Dissipe tous les fronts orageux.
      */
     @Override
     public void arreter() {
-        active = false;
+        fronts.clear();
+        Arrays.fill(intensites, 0);
+        modifie = true;
     }
 
     /**
-     * Applique les effets de la pluie sur toutes les entités vivantes de la carte.
-     * Augmente la vitesse des entités vivantes en fonction de la force de la pluie.
-     *
-     * @param mapVivant Carte contenant les entités vivantes.
+     * Fait dériver les fronts d'un tick, et retire ceux qui se sont dissipés ou ont quitté la carte.
+     * Seuls les nœuds de la grille recouverts par un front, avant ou après son déplacement, sont recalculés.
      */
     @Override
-    public void appliquerEffets(MapVivant mapVivant) {
-        for (int row = 0; row < mapVivant.getRows(); row++) {
-            for (int col = 0; col < mapVivant.getCols(); col++) {
-                EtreVivant vivant = mapVivant.getEtreVivant(row, col);
-                if (vivant != null) {
-                    // Augmente la vitesse proportionnellement à la force de la pluie
-                    vivant.setVitesse(vivant.getVitesse() + (getGouttePluie() / 2));
-                }
+    public void avancer() {
+        for (int i = fronts.size() - 1; i >= 0; i--) {
+            FrontOrageux front = fronts.get(i);
+            double row = front.getRow();
+            double col = front.getCol();
+            if (!front.avancer() || !front.surLaCarte(rows, cols)) {
+                fronts.remove(i);
             }
+            // Zone couverte avant et après le déplacement (le front se déplace de moins d'une case)
+            recalculer(row, col, front.getRayon() + 1);
         }
     }
 
     /**
-     * Arrête les effets de la pluie sur toutes les entités vivantes de la carte.
-     * Réduit légèrement la vitesse des entités vivantes.
+     * Recalcule l'intensité des nœuds de la grille autour d'un point, à partir de tous les fronts.
      *
-     * @param mapVivant Carte contenant les entités vivantes.
+     * @param row   Ligne du point (en cases).
+     * @param col   Colonne du point (en cases).
+     * @param rayon Rayon de la zone à recalculer (en cases).
      */
-    @Override
-    public void stopperEffets(MapVivant mapVivant) {
-        for (int row = 0; row < mapVivant.getRows(); row++) {
-            for (int col = 0; col < mapVivant.getCols(); col++) {
-                EtreVivant vivant = mapVivant.getEtreVivant(row, col);
-                if (vivant != null) {
-                    // Réduit la vitesse pour compenser les effets de la pluie
-                    vivant.setVitesse(Math.max(1, vivant.getVitesse() - 1));
+    private void recalculer(double row, double col, double rayon) {
+        int iMin = Math.max(0, (int) Math.floor((row - rayon) / ChampPluie.TAILLE));
+        int iMax = Math.min(lignesNoeuds - 1, (int) Math.ceil((row + rayon) / ChampPluie.TAILLE));
+        int jMin = Math.max(0, (int) Math.floor((col - rayon) / ChampPluie.TAILLE));
+        int jMax = Math.min(colonnesNoeuds - 1, (int) Math.ceil((col + rayon) / ChampPluie.TAILLE));
+        for (int i = iMin; i <= iMax; i++) {
+            for (int j = jMin; j <= jMax; j++) {
+                float intensite = 0;
+                for (int f = 0; f < fronts.size(); f++) {
+                    intensite += fronts.get(f).intensite(i * ChampPluie.TAILLE, j * ChampPluie.TAILLE);
                 }
+                intensites[i * colonnesNoeuds + j] = intensite;
             }
         }
+        modifie = true;
     }
 
     /**
-     * Indique si la pluie est actuellement active.
+     * Retourne le ralentissement dû à la pluie sur une case : la moitié du nombre de gouttes qui y tombent.
      *
-     * @return {@code true} si la pluie est active, {@code false} sinon.
+     * @param row Ligne de la case.
+     * @param col Colonne de la case.
+     * @return Le ralentissement (en ticks, 0 hors des fronts).
      */
-    public boolean isActive() {
-        return active;
+    @Override
+    public int getRalentissement(int row, int col) {
+        if (fronts.isEmpty()) {
+            return 0;
+        }
+        return (int) ChampPluie.echantillonner(intensites, colonnesNoeuds, row, col) / 2;
     }
 
     /**
-     * Retourne le nombre actuel de gouttes de pluie.
+     * Retourne l'intensité de la pluie sur toute la carte, pour l'affichage.
+     * Une nouvelle copie n'est faite que si la grille a changé depuis le dernier appel.
+     * Doit être appelée par le thread qui exécute la simulation.
      *
-     * @return Nombre de gouttes de pluie.
+     * @return Champ immuable de la pluie.
      */
-    public int getGouttePluie() {
-        return gouttePluie;
+    public ChampPluie getChamp() {
+        if (modifie) {
+            champ = fronts.isEmpty() ? ChampPluie.VIDE : new ChampPluie(colonnesNoeuds, intensites.clone(), true);
+            modifie = false;
+        }
+        return champ;
+    }
+
+    /**
+     * Indique s'il pleut quelque part sur la carte.
+     *
+     * @return {@code true} si au moins un front est actif, {@code false} sinon.
+     */
+    public boolean isActive() {
+        return !fronts.isEmpty();
     }
 
     /**
-     * Définit le nombre de gouttes de pluie.
+     * Retourne le nombre de fronts orageux en cours.
      *
-     * @param gouttePluie Nombre de gouttes de pluie à définir.
+     * @return Nombre de fronts.
      */
-    public void setGouttePluie(int gouttePluie) {
-        Pluie.gouttePluie = gouttePluie;
+    public int getNombreFronts() {
+        return fronts.size();
     }
 }
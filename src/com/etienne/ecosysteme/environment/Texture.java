@@ -0,0 +1,86 @@
+package com.etienne.ecosysteme.environment;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * Texture de l'écosystème : une zone rectangulaire d'une image.
+ *
+ * <p>Les textures des cases et les sprites des êtres vivants sont des zones d'une page de l'atlas
+ * ({@link TextureAtlas}), dont le décodage est lancé au premier dessin d'une de ses textures.
+ * Une texture hors atlas couvre toute son image.</p>
+ *
+ * <p>Une texture est immuable et partagée : deux textures de même chemin sont la même instance,
+ * ce qui permet de les comparer par référence.</p>
+ */
+public final class Texture {
+
+    // Page contenant la texture
+    private final PageAtlas page;
+
+    // Zone de la texture dans l'image (en pixels)
+    private final double x;
+    private final double y;
+    private final double largeur;
+    private final double hauteur;
+
+    /**
+     * Constructeur d'une texture couvrant une zone d'une page de l'atlas.
+     *
+     * @param page    Page contenant la texture.
+     * @param x       Abscisse de la zone.
+     * @param y       Ordonnée de la zone.
+     * @param largeur Largeur de la zone.
+     * @param hauteur Hauteur de la zone.
+     */
+    Texture(PageAtlas page, double x, double y, double largeur, double hauteur) {
+        this.page = page;
+        this.x = x;
+        this.y = y;
+        this.largeur = largeur;
+        this.hauteur = hauteur;
+    }
+
+    /**
+     * Constructeur d'une texture couvrant toute une image.
+     * @param image L'image.
+     */
+    public Texture(Image image) {
+        this(new PageAtlas(image), 0, 0, image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * Dessine la texture dans une case carrée. Si sa page n'est pas encore décodée, son décodage est lancé
+     * et rien n'est dessiné : la case est à redessiner plus tard, sans que l'affichage attende.
+     *
+     * @param gc     Contexte graphique du canvas.
+     * @param x      Abscisse de la case (en pixels).
+     * @param y      Ordonnée de la case (en pixels).
+     * @param taille Taille de la case (en pixels).
+     * @return {@code true} si la texture a été dessinée, {@code false} si sa page est en cours de décodage.
+     */
+    public boolean dessiner(GraphicsContext gc, double x, double y, double taille) {
+        Image image = page.getImageSiDecodee();
+        if (image == null) {
+            return false;
+        }
+        gc.drawImage(image, this.x, this.y, largeur, hauteur, x, y, taille, taille);
+        return true;
+    }
+
+    /**
+     * Retourne l'image contenant la texture, en attendant son décodage si nécessaire.
+     * @return L'image.
+     */
+    public Image getImage() {
+        return page.getImage();
+    }
+
+    /**
+     * Retourne la page de l'atlas contenant la texture.
+     * @return La page.
+     */
+    PageAtlas getPage() {
+        return page;
+    }
+}
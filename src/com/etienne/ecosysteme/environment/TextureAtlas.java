@@ -0,0 +1,140 @@
+package com.etienne.ecosysteme.environment;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Atlas des textures et des sprites de l'écosystème.
+ *
+ * <p>Les images des types de terrain, des éléments et des êtres vivants sont regroupées par
+ * {@link AtlasPacker} en pages, une par dossier d'images (un style d'humain, un animal, l'eau, les arbres...),
+ * décrites par un index commun ({@value #INDEX}) qui donne la page et la zone de chaque image d'origine.</p>
+ *
+ * <p>Seul l'index est lu au premier appel de {@link #get(String)}. Chaque page est décodée au premier dessin
+ * d'une de ses textures (sans bloquer l'affichage : la texture n'est dessinée qu'une fois sa page prête),
+ * ou à l'avance par {@link #precharger(Collection, DoubleConsumer)}, sur un exécuteur borné à {@value #THREADS_MAX} threads : les pages sont décodées en parallèle, et une page dont aucune texture
+ * n'est utilisée sur la carte n'est jamais décodée. La simulation sans affichage ne charge rien.</p>
+ *
+ * <p>Une image absente de l'atlas est chargée seule, par {@link TextureCache}.</p>
+ */
+public final class TextureAtlas {
+
+    // Dossier et index de l'atlas (générés par AtlasPacker)
+    public static final String DOSSIER = "/ressources/atlas/";
+    public static final String INDEX = DOSSIER + "atlas.idx";
+
+    // Nombre maximal de threads de décodage des pages
+    private static final int THREADS_MAX = 4;
+
+    // Textures de l'atlas, indexées par chemin de l'image d'origine
+    private final Map<String, Texture> textures;
+
+    // Textures hors atlas, chargées à la demande
+    private final Map<String, Texture> horsAtlas = new ConcurrentHashMap<>();
+
+    /**
+     * Chargement paresseux de l'index (à la première utilisation de la classe Holder).
+     */
+    private static final class Holder {
+        private static final TextureAtlas INSTANCE = new TextureAtlas();
+    }
+
+    /**
+     * Exécuteur du décodage des pages, créé au premier décodage (threads démons).
+     */
+    private static final class Decodage {
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+                Math.min(THREADS_MAX, Runtime.getRuntime().availableProcessors()), tache -> {
+                    Thread thread = new Thread(tache, "atlas");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Constructeur privé : lit l'index de l'atlas, sans décoder aucune page.
+     */
+    private TextureAtlas() {
+        Map<String, PageAtlas> pages = new HashMap<>();
+        textures = new HashMap<>();
+        InputStream index = Objects.requireNonNull(TextureAtlas.class.getResourceAsStream(INDEX),
+                "Atlas manquant : " + INDEX + " (à générer avec AtlasPacker)");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(index, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Format : page x y largeur hauteur chemin (le chemin peut contenir des espaces)
+                String[] values = line.split(" ", 6);
+                if (values.length != 6) {
+                    throw new IllegalStateException("Ligne d'index invalide : " + line);
+                }
+                PageAtlas page = pages.computeIfAbsent(values[0], nom -> new PageAtlas(DOSSIER + nom));
+                textures.put(values[5], new Texture(page,
+                        Integer.parseInt(values[1]), Integer.parseInt(values[2]),
+                        Integer.parseInt(values[3]), Integer.parseInt(values[4])));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Index d'atlas illisible : " + INDEX, e);
+        }
+    }
+
+    /**
+     * Retourne la texture correspondant à une image. Sa page n'est pas décodée.
+     *
+     * @param path Chemin de l'image d'origine (par exemple, "/ressources/textures/baseType/herbe/herbe_clair.png").
+     * @return La texture correspondante.
+     * @throws NullPointerException Si l'image est introuvable.
+     */
+    public static Texture get(String path) {
+        TextureAtlas atlas = Holder.INSTANCE;
+        Texture texture = atlas.textures.get(path);
+        return texture != null ? texture : atlas.horsAtlas.computeIfAbsent(path, p -> new Texture(TextureCache.get(p)));
+    }
+
+    /**
+     * Lance en parallèle le décodage des pages contenant des textures données.
+     *
+     * @param textures    Textures à charger.
+     * @param progression Appelée après le décodage de chaque page, avec la part des pages décodées (entre 0 et 1),
+     *                    depuis un thread de décodage.
+     * @return Tâche terminée lorsque toutes les pages sont décodées.
+     */
+    public static CompletableFuture<Void> precharger(Collection<Texture> textures, DoubleConsumer progression) {
+        Set<PageAtlas> pages = new LinkedHashSet<>();
+        for (Texture texture : textures) {
+            pages.add(texture.getPage());
+        }
+
+        AtomicInteger decodees = new AtomicInteger();
+        CompletableFuture<?>[] chargements = new CompletableFuture<?>[pages.size()];
+        int i = 0;
+        for (PageAtlas page : pages) {
+            chargements[i++] = page.charger(executor())
+                    .thenRun(() -> progression.accept((double) decodees.incrementAndGet() / pages.size()));
+        }
+        return CompletableFuture.allOf(chargements);
+    }
+
+    /**
+     * Retourne l'exécuteur du décodage des pages.
+     * @return L'exécuteur.
+     */
+    static ExecutorService executor() {
+        return Decodage.EXECUTOR;
+    }
+}
@@ -0,0 +1,35 @@
+package com.etienne.ecosysteme.environment;
+
+import javafx.scene.image.Image;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache des textures de l'écosystème.
+ *
+ * <p>Les textures ne sont chargées qu'au premier accès, et une seule fois par chemin.
+ * Ainsi, la simulation peut créer des cases et des êtres vivants sans jamais décoder
+ * d'image (par exemple en mode sans affichage).</p>
+ */
+public final class TextureCache {
+
+    // Textures déjà chargées, indexées par chemin de ressource
+    private static final Map<String, Image> textures = new ConcurrentHashMap<>();
+
+    private TextureCache() {
+    }
+
+    /**
+     * Retourne la texture située au chemin donné, en la chargeant si nécessaire.
+     *
+     * @param path Chemin de la ressource (par exemple, "/ressources/textures/baseType/herbe/herbe_clair.png").
+     * @return L'image correspondante.
+     * @throws NullPointerException Si la ressource est introuvable.
+     */
+    public static Image get(String path) {
+        return textures.computeIfAbsent(path, p -> new Image(Objects.requireNonNull(
+                TextureCache.class.getResourceAsStream(p), "Texture manquante : " + p)));
+    }
+}
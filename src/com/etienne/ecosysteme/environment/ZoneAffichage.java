@@ -0,0 +1,60 @@
+package com.etienne.ecosysteme.environment;
+
+/**
+ * Rectangle de cases dont l'affichage a besoin, transmis au thread de simulation pour qu'il ne publie
+ * que les êtres vivants de cette zone (voir {@link MapRenderer#getZoneAffichage}).
+ *
+ * <p>Une instance est immuable : elle est remplacée, et non modifiée, quand la vue se déplace.</p>
+ */
+public final class ZoneAffichage {
+
+    // Zone vide : aucun être vivant publié
+    public static final ZoneAffichage VIDE = new ZoneAffichage(0, 0, 0, 0);
+
+    // Première ligne et première colonne de la zone, ligne et colonne qui suivent la zone
+    private final int rowMin;
+    private final int colMin;
+    private final int rowMax;
+    private final int colMax;
+
+    /**
+     * Constructeur de la zone.
+     *
+     * @param rowMin Première ligne de la zone.
+     * @param colMin Première colonne de la zone.
+     * @param rowMax Ligne suivant la dernière ligne de la zone.
+     * @param colMax Colonne suivant la dernière colonne de la zone.
+     */
+    public ZoneAffichage(int rowMin, int colMin, int rowMax, int colMax) {
+        this.rowMin = rowMin;
+        this.colMin = colMin;
+        this.rowMax = rowMax;
+        this.colMax = colMax;
+    }
+
+    public int getRowMin() {
+        return rowMin;
+    }
+
+    public int getColMin() {
+        return colMin;
+    }
+
+    public int getRowMax() {
+        return rowMax;
+    }
+
+    public int getColMax() {
+        return colMax;
+    }
+
+    /**
+     * Indique si la zone est identique à une autre.
+     *
+     * @param autre L'autre zone.
+     * @return {@code true} si les deux zones couvrent les mêmes cases.
+     */
+    public boolean memeZone(ZoneAffichage autre) {
+        return rowMin == autre.rowMin && colMin == autre.colMin && rowMax == autre.rowMax && colMax == autre.colMax;
+    }
+}